@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Properties;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * Injection targets shared by the benchmarks. The fields are never assigned;
+ * only their types and annotations are used.
+ */
+class BenchmarkBean {
+
+    static final String RESOURCE = "io/xlate/inject/benchmark.properties";
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    String string1;
+
+    @Property(resource = @PropertyResource(RESOURCE), resolveEnvironment = true)
+    String string2;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    boolean boolean1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    int integer1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    long long1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    float float1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    double double1;
+
+    @Property(resource = @PropertyResource(RESOURCE), pattern = "#,##0")
+    BigInteger bigInteger1;
+
+    @Property(resource = @PropertyResource(RESOURCE), pattern = "#,##0.0#")
+    BigDecimal bigDecimal1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    Date date1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    JsonArray jsonArray1;
+
+    @Property(resource = @PropertyResource(RESOURCE))
+    JsonObject jsonObject1;
+
+    @PropertyResource(RESOURCE)
+    Properties properties;
+}
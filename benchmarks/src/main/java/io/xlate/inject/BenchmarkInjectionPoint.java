@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Annotated;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+/**
+ * Plain {@link InjectionPoint} for a field, used to call the producers
+ * outside of a container without the overhead of a mocking library.
+ */
+class BenchmarkInjectionPoint implements InjectionPoint, Annotated {
+
+    private final Field field;
+
+    BenchmarkInjectionPoint(Field field) {
+        this.field = field;
+    }
+
+    static BenchmarkInjectionPoint of(Class<?> beanType, String fieldName) {
+        try {
+            return new BenchmarkInjectionPoint(beanType.getDeclaredField(fieldName));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public Type getType() {
+        return field.getGenericType();
+    }
+
+    @Override
+    public Set<Annotation> getQualifiers() {
+        return new HashSet<>(Arrays.asList(field.getAnnotations()));
+    }
+
+    @Override
+    public Bean<?> getBean() {
+        return null;
+    }
+
+    @Override
+    public Member getMember() {
+        return field;
+    }
+
+    @Override
+    public Annotated getAnnotated() {
+        return this;
+    }
+
+    @Override
+    public boolean isDelegate() {
+        return false;
+    }
+
+    @Override
+    public boolean isTransient() {
+        return false;
+    }
+
+    @Override
+    public Type getBaseType() {
+        return field.getGenericType();
+    }
+
+    @Override
+    public Set<Type> getTypeClosure() {
+        return Set.of(field.getGenericType(), Object.class);
+    }
+
+    @Override
+    public <T extends Annotation> T getAnnotation(Class<T> annotationType) {
+        return field.getAnnotation(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> Set<T> getAnnotations(Class<T> annotationType) {
+        return new HashSet<>(Arrays.asList(field.getAnnotationsByType(annotationType)));
+    }
+
+    @Override
+    public Set<Annotation> getAnnotations() {
+        return getQualifiers();
+    }
+
+    @Override
+    public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
+        return field.isAnnotationPresent(annotationType);
+    }
+
+    @Override
+    public String toString() {
+        return field.toString();
+    }
+}
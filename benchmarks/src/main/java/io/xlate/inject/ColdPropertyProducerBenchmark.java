@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the first injection using new producers, i.e. locating and loading
+ * the resource and building the injection plan. Every invocation uses
+ * producers with empty caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(3)
+public class ColdPropertyProducerBenchmark {
+
+    PropertyFactory factory;
+    PropertyProducerBean producer;
+    PropertyResourceProducerBean resourceProducer;
+
+    final InjectionPoint string1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "string1");
+    final InjectionPoint properties = BenchmarkInjectionPoint.of(BenchmarkBean.class, "properties");
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        factory = new PropertyFactory();
+        producer = new PropertyProducerBean(factory);
+        resourceProducer = new PropertyResourceProducerBean(factory);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public String produceProperty() {
+        return producer.produceProperty(string1);
+    }
+
+    @Benchmark
+    public Properties produceProperties() {
+        return resourceProducer.produceProperties(properties);
+    }
+}
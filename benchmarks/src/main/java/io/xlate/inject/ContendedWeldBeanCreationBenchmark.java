@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The benchmarks of {@link WeldBeanCreationBenchmark} run concurrently by one
+ * thread per available processor against a single container.
+ */
+@Threads(Threads.MAX)
+public class ContendedWeldBeanCreationBenchmark extends WeldBeanCreationBenchmark {
+}
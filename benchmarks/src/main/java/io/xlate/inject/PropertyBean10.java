@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+/**
+ * Bean with 10 property injection points of mixed types.
+ */
+@Dependent
+public class PropertyBean10 {
+
+    static final String RESOURCE = "io/xlate/inject/weld-benchmark.properties";
+
+    @Inject
+    @Property(name = "p0", resource = @PropertyResource(RESOURCE))
+    String p0;
+
+    @Inject
+    @Property(name = "p1", resource = @PropertyResource(RESOURCE))
+    int p1;
+
+    @Inject
+    @Property(name = "p2", resource = @PropertyResource(RESOURCE))
+    long p2;
+
+    @Inject
+    @Property(name = "p3", resource = @PropertyResource(RESOURCE))
+    boolean p3;
+
+    @Inject
+    @Property(name = "p4", resource = @PropertyResource(RESOURCE))
+    double p4;
+
+    @Inject
+    @Property(name = "p5", resource = @PropertyResource(RESOURCE))
+    Integer p5;
+
+    @Inject
+    @Property(name = "p6", resource = @PropertyResource(RESOURCE))
+    BigDecimal p6;
+
+    @Inject
+    @Property(name = "p7", resource = @PropertyResource(RESOURCE))
+    Duration p7;
+
+    @Inject
+    @Property(name = "p8", resource = @PropertyResource(RESOURCE))
+    String p8;
+
+    @Inject
+    @Property(name = "p9", resource = @PropertyResource(RESOURCE))
+    int p9;
+}
@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+/**
+ * Bean with 100 property injection points of mixed types.
+ */
+@Dependent
+public class PropertyBean100 {
+
+    static final String RESOURCE = "io/xlate/inject/weld-benchmark.properties";
+
+    @Inject
+    @Property(name = "p0", resource = @PropertyResource(RESOURCE))
+    String p0;
+
+    @Inject
+    @Property(name = "p1", resource = @PropertyResource(RESOURCE))
+    int p1;
+
+    @Inject
+    @Property(name = "p2", resource = @PropertyResource(RESOURCE))
+    long p2;
+
+    @Inject
+    @Property(name = "p3", resource = @PropertyResource(RESOURCE))
+    boolean p3;
+
+    @Inject
+    @Property(name = "p4", resource = @PropertyResource(RESOURCE))
+    double p4;
+
+    @Inject
+    @Property(name = "p5", resource = @PropertyResource(RESOURCE))
+    Integer p5;
+
+    @Inject
+    @Property(name = "p6", resource = @PropertyResource(RESOURCE))
+    BigDecimal p6;
+
+    @Inject
+    @Property(name = "p7", resource = @PropertyResource(RESOURCE))
+    Duration p7;
+
+    @Inject
+    @Property(name = "p8", resource = @PropertyResource(RESOURCE))
+    String p8;
+
+    @Inject
+    @Property(name = "p9", resource = @PropertyResource(RESOURCE))
+    int p9;
+
+    @Inject
+    @Property(name = "p10", resource = @PropertyResource(RESOURCE))
+    long p10;
+
+    @Inject
+    @Property(name = "p11", resource = @PropertyResource(RESOURCE))
+    boolean p11;
+
+    @Inject
+    @Property(name = "p12", resource = @PropertyResource(RESOURCE))
+    double p12;
+
+    @Inject
+    @Property(name = "p13", resource = @PropertyResource(RESOURCE))
+    Integer p13;
+
+    @Inject
+    @Property(name = "p14", resource = @PropertyResource(RESOURCE))
+    BigDecimal p14;
+
+    @Inject
+    @Property(name = "p15", resource = @PropertyResource(RESOURCE))
+    Duration p15;
+
+    @Inject
+    @Property(name = "p16", resource = @PropertyResource(RESOURCE))
+    String p16;
+
+    @Inject
+    @Property(name = "p17", resource = @PropertyResource(RESOURCE))
+    int p17;
+
+    @Inject
+    @Property(name = "p18", resource = @PropertyResource(RESOURCE))
+    long p18;
+
+    @Inject
+    @Property(name = "p19", resource = @PropertyResource(RESOURCE))
+    boolean p19;
+
+    @Inject
+    @Property(name = "p20", resource = @PropertyResource(RESOURCE))
+    double p20;
+
+    @Inject
+    @Property(name = "p21", resource = @PropertyResource(RESOURCE))
+    Integer p21;
+
+    @Inject
+    @Property(name = "p22", resource = @PropertyResource(RESOURCE))
+    BigDecimal p22;
+
+    @Inject
+    @Property(name = "p23", resource = @PropertyResource(RESOURCE))
+    Duration p23;
+
+    @Inject
+    @Property(name = "p24", resource = @PropertyResource(RESOURCE))
+    String p24;
+
+    @Inject
+    @Property(name = "p25", resource = @PropertyResource(RESOURCE))
+    int p25;
+
+    @Inject
+    @Property(name = "p26", resource = @PropertyResource(RESOURCE))
+    long p26;
+
+    @Inject
+    @Property(name = "p27", resource = @PropertyResource(RESOURCE))
+    boolean p27;
+
+    @Inject
+    @Property(name = "p28", resource = @PropertyResource(RESOURCE))
+    double p28;
+
+    @Inject
+    @Property(name = "p29", resource = @PropertyResource(RESOURCE))
+    Integer p29;
+
+    @Inject
+    @Property(name = "p30", resource = @PropertyResource(RESOURCE))
+    BigDecimal p30;
+
+    @Inject
+    @Property(name = "p31", resource = @PropertyResource(RESOURCE))
+    Duration p31;
+
+    @Inject
+    @Property(name = "p32", resource = @PropertyResource(RESOURCE))
+    String p32;
+
+    @Inject
+    @Property(name = "p33", resource = @PropertyResource(RESOURCE))
+    int p33;
+
+    @Inject
+    @Property(name = "p34", resource = @PropertyResource(RESOURCE))
+    long p34;
+
+    @Inject
+    @Property(name = "p35", resource = @PropertyResource(RESOURCE))
+    boolean p35;
+
+    @Inject
+    @Property(name = "p36", resource = @PropertyResource(RESOURCE))
+    double p36;
+
+    @Inject
+    @Property(name = "p37", resource = @PropertyResource(RESOURCE))
+    Integer p37;
+
+    @Inject
+    @Property(name = "p38", resource = @PropertyResource(RESOURCE))
+    BigDecimal p38;
+
+    @Inject
+    @Property(name = "p39", resource = @PropertyResource(RESOURCE))
+    Duration p39;
+
+    @Inject
+    @Property(name = "p40", resource = @PropertyResource(RESOURCE))
+    String p40;
+
+    @Inject
+    @Property(name = "p41", resource = @PropertyResource(RESOURCE))
+    int p41;
+
+    @Inject
+    @Property(name = "p42", resource = @PropertyResource(RESOURCE))
+    long p42;
+
+    @Inject
+    @Property(name = "p43", resource = @PropertyResource(RESOURCE))
+    boolean p43;
+
+    @Inject
+    @Property(name = "p44", resource = @PropertyResource(RESOURCE))
+    double p44;
+
+    @Inject
+    @Property(name = "p45", resource = @PropertyResource(RESOURCE))
+    Integer p45;
+
+    @Inject
+    @Property(name = "p46", resource = @PropertyResource(RESOURCE))
+    BigDecimal p46;
+
+    @Inject
+    @Property(name = "p47", resource = @PropertyResource(RESOURCE))
+    Duration p47;
+
+    @Inject
+    @Property(name = "p48", resource = @PropertyResource(RESOURCE))
+    String p48;
+
+    @Inject
+    @Property(name = "p49", resource = @PropertyResource(RESOURCE))
+    int p49;
+
+    @Inject
+    @Property(name = "p50", resource = @PropertyResource(RESOURCE))
+    long p50;
+
+    @Inject
+    @Property(name = "p51", resource = @PropertyResource(RESOURCE))
+    boolean p51;
+
+    @Inject
+    @Property(name = "p52", resource = @PropertyResource(RESOURCE))
+    double p52;
+
+    @Inject
+    @Property(name = "p53", resource = @PropertyResource(RESOURCE))
+    Integer p53;
+
+    @Inject
+    @Property(name = "p54", resource = @PropertyResource(RESOURCE))
+    BigDecimal p54;
+
+    @Inject
+    @Property(name = "p55", resource = @PropertyResource(RESOURCE))
+    Duration p55;
+
+    @Inject
+    @Property(name = "p56", resource = @PropertyResource(RESOURCE))
+    String p56;
+
+    @Inject
+    @Property(name = "p57", resource = @PropertyResource(RESOURCE))
+    int p57;
+
+    @Inject
+    @Property(name = "p58", resource = @PropertyResource(RESOURCE))
+    long p58;
+
+    @Inject
+    @Property(name = "p59", resource = @PropertyResource(RESOURCE))
+    boolean p59;
+
+    @Inject
+    @Property(name = "p60", resource = @PropertyResource(RESOURCE))
+    double p60;
+
+    @Inject
+    @Property(name = "p61", resource = @PropertyResource(RESOURCE))
+    Integer p61;
+
+    @Inject
+    @Property(name = "p62", resource = @PropertyResource(RESOURCE))
+    BigDecimal p62;
+
+    @Inject
+    @Property(name = "p63", resource = @PropertyResource(RESOURCE))
+    Duration p63;
+
+    @Inject
+    @Property(name = "p64", resource = @PropertyResource(RESOURCE))
+    String p64;
+
+    @Inject
+    @Property(name = "p65", resource = @PropertyResource(RESOURCE))
+    int p65;
+
+    @Inject
+    @Property(name = "p66", resource = @PropertyResource(RESOURCE))
+    long p66;
+
+    @Inject
+    @Property(name = "p67", resource = @PropertyResource(RESOURCE))
+    boolean p67;
+
+    @Inject
+    @Property(name = "p68", resource = @PropertyResource(RESOURCE))
+    double p68;
+
+    @Inject
+    @Property(name = "p69", resource = @PropertyResource(RESOURCE))
+    Integer p69;
+
+    @Inject
+    @Property(name = "p70", resource = @PropertyResource(RESOURCE))
+    BigDecimal p70;
+
+    @Inject
+    @Property(name = "p71", resource = @PropertyResource(RESOURCE))
+    Duration p71;
+
+    @Inject
+    @Property(name = "p72", resource = @PropertyResource(RESOURCE))
+    String p72;
+
+    @Inject
+    @Property(name = "p73", resource = @PropertyResource(RESOURCE))
+    int p73;
+
+    @Inject
+    @Property(name = "p74", resource = @PropertyResource(RESOURCE))
+    long p74;
+
+    @Inject
+    @Property(name = "p75", resource = @PropertyResource(RESOURCE))
+    boolean p75;
+
+    @Inject
+    @Property(name = "p76", resource = @PropertyResource(RESOURCE))
+    double p76;
+
+    @Inject
+    @Property(name = "p77", resource = @PropertyResource(RESOURCE))
+    Integer p77;
+
+    @Inject
+    @Property(name = "p78", resource = @PropertyResource(RESOURCE))
+    BigDecimal p78;
+
+    @Inject
+    @Property(name = "p79", resource = @PropertyResource(RESOURCE))
+    Duration p79;
+
+    @Inject
+    @Property(name = "p80", resource = @PropertyResource(RESOURCE))
+    String p80;
+
+    @Inject
+    @Property(name = "p81", resource = @PropertyResource(RESOURCE))
+    int p81;
+
+    @Inject
+    @Property(name = "p82", resource = @PropertyResource(RESOURCE))
+    long p82;
+
+    @Inject
+    @Property(name = "p83", resource = @PropertyResource(RESOURCE))
+    boolean p83;
+
+    @Inject
+    @Property(name = "p84", resource = @PropertyResource(RESOURCE))
+    double p84;
+
+    @Inject
+    @Property(name = "p85", resource = @PropertyResource(RESOURCE))
+    Integer p85;
+
+    @Inject
+    @Property(name = "p86", resource = @PropertyResource(RESOURCE))
+    BigDecimal p86;
+
+    @Inject
+    @Property(name = "p87", resource = @PropertyResource(RESOURCE))
+    Duration p87;
+
+    @Inject
+    @Property(name = "p88", resource = @PropertyResource(RESOURCE))
+    String p88;
+
+    @Inject
+    @Property(name = "p89", resource = @PropertyResource(RESOURCE))
+    int p89;
+
+    @Inject
+    @Property(name = "p90", resource = @PropertyResource(RESOURCE))
+    long p90;
+
+    @Inject
+    @Property(name = "p91", resource = @PropertyResource(RESOURCE))
+    boolean p91;
+
+    @Inject
+    @Property(name = "p92", resource = @PropertyResource(RESOURCE))
+    double p92;
+
+    @Inject
+    @Property(name = "p93", resource = @PropertyResource(RESOURCE))
+    Integer p93;
+
+    @Inject
+    @Property(name = "p94", resource = @PropertyResource(RESOURCE))
+    BigDecimal p94;
+
+    @Inject
+    @Property(name = "p95", resource = @PropertyResource(RESOURCE))
+    Duration p95;
+
+    @Inject
+    @Property(name = "p96", resource = @PropertyResource(RESOURCE))
+    String p96;
+
+    @Inject
+    @Property(name = "p97", resource = @PropertyResource(RESOURCE))
+    int p97;
+
+    @Inject
+    @Property(name = "p98", resource = @PropertyResource(RESOURCE))
+    long p98;
+
+    @Inject
+    @Property(name = "p99", resource = @PropertyResource(RESOURCE))
+    boolean p99;
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Warm, single-threaded cost of producing each supported type once the
+ * resource has been loaded. Run with {@code -prof gc} to report the
+ * allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyProducerBenchmark {
+
+    PropertyFactory factory;
+    PropertyProducerBean producer;
+    PropertyResourceProducerBean resourceProducer;
+
+    InjectionPoint string1;
+    InjectionPoint string2;
+    InjectionPoint boolean1;
+    InjectionPoint integer1;
+    InjectionPoint long1;
+    InjectionPoint float1;
+    InjectionPoint double1;
+    InjectionPoint bigInteger1;
+    InjectionPoint bigDecimal1;
+    InjectionPoint date1;
+    InjectionPoint jsonArray1;
+    InjectionPoint jsonObject1;
+    InjectionPoint properties;
+
+    @Setup
+    public void setup() {
+        factory = new PropertyFactory();
+        producer = new PropertyProducerBean(factory);
+        resourceProducer = new PropertyResourceProducerBean(factory);
+
+        string1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "string1");
+        string2 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "string2");
+        boolean1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "boolean1");
+        integer1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "integer1");
+        long1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "long1");
+        float1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "float1");
+        double1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "double1");
+        bigInteger1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "bigInteger1");
+        bigDecimal1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "bigDecimal1");
+        date1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "date1");
+        jsonArray1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "jsonArray1");
+        jsonObject1 = BenchmarkInjectionPoint.of(BenchmarkBean.class, "jsonObject1");
+        properties = BenchmarkInjectionPoint.of(BenchmarkBean.class, "properties");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public String getProperty() throws IOException {
+        return producer.getProperty(string1);
+    }
+
+    @Benchmark
+    public String produceProperty() {
+        return producer.produceProperty(string1);
+    }
+
+    @Benchmark
+    public String producePropertyWithEnvironment() {
+        return producer.produceProperty(string2);
+    }
+
+    @Benchmark
+    public Boolean produceBooleanProperty() {
+        return producer.produceBooleanProperty(boolean1);
+    }
+
+    @Benchmark
+    public Integer produceIntegerProperty() {
+        return producer.produceIntegerProperty(integer1);
+    }
+
+    @Benchmark
+    public Long produceLongProperty() {
+        return producer.produceLongProperty(long1);
+    }
+
+    @Benchmark
+    public Float produceFloatProperty() {
+        return producer.produceFloatProperty(float1);
+    }
+
+    @Benchmark
+    public Double produceDoubleProperty() {
+        return producer.produceDoubleProperty(double1);
+    }
+
+    @Benchmark
+    public BigInteger produceBigIntegerProperty() {
+        return producer.produceBigIntegerProperty(bigInteger1);
+    }
+
+    @Benchmark
+    public BigDecimal produceBigDecimalProperty() {
+        return producer.produceBigDecimalProperty(bigDecimal1);
+    }
+
+    @Benchmark
+    public Date produceDateProperty() {
+        return producer.produceDateProperty(date1);
+    }
+
+    @Benchmark
+    public JsonArray produceJsonArrayProperty() {
+        return producer.produceJsonArrayProperty(jsonArray1);
+    }
+
+    @Benchmark
+    public JsonObject produceJsonObjectProperty() {
+        return producer.produceJsonObjectProperty(jsonObject1);
+    }
+
+    @Benchmark
+    public Properties produceProperties() {
+        return resourceProducer.produceProperties(properties);
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end creation of {@code @Dependent} beans by a Weld SE container,
+ * including the container's calls to the producers and the resolution of
+ * {@code Instance<PropertyFileProvider>}. The score is beans per second; run
+ * with {@code -prof gc} for the bytes allocated per bean
+ * ({@code gc.alloc.rate.norm}) and with {@code -t} to vary the number of
+ * threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeldBeanCreationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int injectionPoints;
+
+    @Param({ "false", "true" })
+    boolean globalFile;
+
+    WeldContainer container;
+    Instance<?> beans;
+
+    @Setup
+    public void setup() {
+        Weld weld = new Weld(UUID.randomUUID().toString())
+                .disableDiscovery()
+                .addExtension(new PropertyInjectionExtension())
+                .addBeanClasses(PropertyBean1.class, PropertyBean10.class, PropertyBean100.class);
+
+        if (globalFile) {
+            weld.addBeanClass(BenchmarkFileProvider.class);
+        }
+
+        container = weld.initialize();
+
+        switch (injectionPoints) {
+        case 1:
+            beans = container.select(PropertyBean1.class);
+            break;
+        case 10:
+            beans = container.select(PropertyBean10.class);
+            break;
+        default:
+            beans = container.select(PropertyBean100.class);
+            break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Object createBean() {
+        return create(beans);
+    }
+
+    static <T> T create(Instance<T> instance) {
+        T bean = instance.get();
+        // Release the dependent instance so the container does not retain it
+        instance.destroy(bean);
+        return bean;
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.Objects;
+
+import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.inject.Instance;
+
+class DynamicPropertyValue<T> implements PropertyValue<T> {
+
+    private final PropertyFactory factory;
+    private final InjectionPlan plan;
+    private final PropertyConverter<T> converter;
+    private final Instance<PropertyFileProvider> fileProvider;
+    private volatile Converted<T> converted;
+
+    static final class Converted<T> {
+        final String raw;
+        final T value;
+
+        Converted(String raw, T value) {
+            this.raw = raw;
+            this.value = value;
+        }
+    }
+
+    DynamicPropertyValue(PropertyFactory factory,
+                         InjectionPlan plan,
+                         PropertyConverter<T> converter,
+                         Instance<PropertyFileProvider> fileProvider) {
+        this.factory = factory;
+        this.plan = plan;
+        this.converter = converter;
+        this.fileProvider = fileProvider;
+    }
+
+    @Override
+    public T get() {
+        final String raw;
+
+        try {
+            raw = factory.getProperty(plan, fileProvider);
+        } catch (Exception e) {
+            throw new InjectionException(e);
+        }
+
+        Converted<T> current = converted;
+
+        if (current == null || !Objects.equals(current.raw, raw)) {
+            current = new Converted<>(raw, convert(raw));
+            converted = current;
+        }
+
+        return current.value != null ? converter.copy(current.value) : null;
+    }
+
+    T convert(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        try {
+            return converter.convert(raw, plan.getPattern());
+        } catch (Exception e) {
+            throw new InjectionException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyValue[" + plan.getPropertyName() + ']';
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The global properties given by the {@link PropertyFileProvider}s of a
+ * deployment. The layers are merged into a single table so that a lookup is
+ * one probe regardless of the number of layers. The table is merged again
+ * when any layer has been reloaded since the last merge.
+ */
+class GlobalProperties {
+
+    private final ResourceHandle[] layers;
+    private volatile Merged merged;
+
+    static final class Merged {
+        final ResourceSnapshot[] sources;
+        final ResourceSnapshot snapshot;
+        // The first layer left out of the merge because it is missing, if any
+        final ResourceHandle missing;
+
+        Merged(ResourceSnapshot[] sources, ResourceSnapshot snapshot, ResourceHandle missing) {
+            this.sources = sources;
+            this.snapshot = snapshot;
+            this.missing = missing;
+        }
+
+        boolean isCurrent(ResourceHandle[] layers) {
+            for (int i = 0; i < layers.length; i++) {
+                if (layers[i].getSnapshot() != sources[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * @param layers the resources in increasing order of precedence
+     */
+    GlobalProperties(List<ResourceHandle> layers) {
+        this.layers = layers.toArray(new ResourceHandle[0]);
+    }
+
+    ResourceHandle[] getLayers() {
+        return layers.clone();
+    }
+
+    ResourceSnapshot getSnapshot(boolean allowMissingResource) throws IOException {
+        Merged current = merged;
+
+        if (current == null || !current.isCurrent(layers)) {
+            current = merge(allowMissingResource);
+            merged = current;
+        }
+
+        if (current.missing != null && !allowMissingResource) {
+            // The merge was made for a caller that allowed the missing layer
+            throw new FileNotFoundException(current.missing.getResourceUrl().toString());
+        }
+
+        return current.snapshot;
+    }
+
+    PropertyTable getTable(boolean allowMissingResource) throws IOException {
+        return getSnapshot(allowMissingResource).getTable();
+    }
+
+    Properties getProperties(boolean allowMissingResource) throws IOException {
+        return getSnapshot(allowMissingResource).getProperties();
+    }
+
+    Merged merge(boolean allowMissingResource) throws IOException {
+        final ResourceSnapshot[] sources = new ResourceSnapshot[layers.length];
+        final Map<String, String> properties = new HashMap<>();
+        ResourceHandle missing = null;
+
+        for (int i = 0; i < layers.length; i++) {
+            sources[i] = layers[i].getSnapshot(allowMissingResource);
+
+            if (missing == null && sources[i].isMissing()) {
+                missing = layers[i];
+            }
+
+            // Later layers replace the values of earlier ones
+            properties.putAll(sources[i].getTable());
+        }
+
+        final PropertyTable table = sources.length == 1 ? sources[0].getTable() : new PropertyTable(properties);
+        return new Merged(sources, new ResourceSnapshot(table), missing);
+    }
+}
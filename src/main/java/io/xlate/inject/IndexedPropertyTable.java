@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Property table backed by the raw bytes of a file in the properties format.
+ * The content is scanned once to index the location of each entry by the hash
+ * of its name; names are decoded during the scan only when they contain
+ * escapes or (for UTF-8) non-ASCII characters, and values are decoded only
+ * when first read. The heap holds the index plus the strings of the
+ * properties read, rather than strings for every entry.
+ *
+ * <p>
+ * The content is a private copy of the file taken when the table is created
+ * and mapped into memory outside the heap, so changing the file afterwards,
+ * e.g. while editing it for a reload, does not affect the table. Iterating
+ * the table decodes every entry. A malformed escape in a value is reported
+ * when the value is read.
+ */
+final class IndexedPropertyTable extends PropertyTable {
+
+    private static final String[] NO_ENTRIES = new String[0];
+
+    private final ByteBuffer content;
+    private final Charset charset;
+
+    // Start and end of the name and value of each entry, in file order
+    private int[] offsets = new int[256];
+    private int[] hashes = new int[64];
+    private int count;
+
+    // Open-addressed slots holding the index of an entry plus one
+    private final int[] slots;
+    private final int mask;
+    private final int size;
+
+    private final String[] keys;
+    private final String[] values;
+    private volatile PropertyTable decoded;
+
+    private IndexedPropertyTable(ByteBuffer content, Charset charset) {
+        super(NO_ENTRIES, 0);
+        this.content = content;
+        this.charset = charset;
+
+        scan();
+
+        final int capacity = Integer.highestOneBit(Math.max(2, count) * 4 - 1);
+        slots = new int[capacity];
+        mask = capacity - 1;
+        keys = new String[count];
+        values = new String[count];
+
+        int unique = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (insert(i)) {
+                unique++;
+            }
+        }
+
+        size = unique;
+    }
+
+    static boolean isSupported(Charset charset) {
+        // The syntax of the format is found in the bytes of these charsets
+        return StandardCharsets.ISO_8859_1.equals(charset)
+                || StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    static PropertyTable read(Path file, Charset charset) throws IOException {
+        final PropertyTable table = new IndexedPropertyTable(map(file), charset);
+        return table.isEmpty() ? PropertyTable.EMPTY : table;
+    }
+
+    /**
+     * Copy the file to a temporary file and map the copy. The mapping remains
+     * valid once the copy is deleted where the platform allows it, otherwise
+     * the copy is deleted on exit.
+     */
+    static ByteBuffer map(Path file) throws IOException {
+        final Path copy = Files.createTempFile("io.xlate.inject", ".properties");
+
+        try {
+            Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+
+            try (FileChannel channel = FileChannel.open(copy, StandardOpenOption.READ)) {
+                final long size = channel.size();
+
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("File too large to index: " + file);
+                }
+
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } finally {
+            try {
+                Files.delete(copy);
+            } catch (IOException e) {
+                copy.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    ByteBuffer getContent() {
+        return content;
+    }
+
+    void scan() {
+        final PropertiesParser scanner = new PropertiesParser(new Latin1Sequence(content));
+
+        while (scanner.skipToKey()) {
+            final int keyStart = scanner.getPosition();
+            scanner.skipToken(true);
+            final int keyEnd = scanner.getPosition();
+            scanner.skipSeparator();
+            final int valueStart = scanner.getPosition();
+            scanner.skipToken(false);
+            final int valueEnd = scanner.getPosition();
+            scanner.skipLineTerminator();
+
+            add(keyStart, keyEnd, valueStart, valueEnd);
+        }
+    }
+
+    void add(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+        if (count == hashes.length) {
+            hashes = Arrays.copyOf(hashes, count * 2);
+            offsets = Arrays.copyOf(offsets, count * 8);
+        }
+
+        final int offset = count * 4;
+        offsets[offset] = keyStart;
+        offsets[offset + 1] = keyEnd;
+        offsets[offset + 2] = valueStart;
+        offsets[offset + 3] = valueEnd;
+        hashes[count] = hash(keyStart, keyEnd);
+        count++;
+    }
+
+    /**
+     * Compute the hash of a name from the bytes of the file when they decode
+     * to one character each, otherwise from the decoded name.
+     */
+    int hash(int start, int end) {
+        final boolean latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        int h = 0;
+
+        for (int i = start; i < end; i++) {
+            final byte b = content.get(i);
+
+            if (b == '\\' || b < 0 && !latin1) {
+                return PropertyTable.hash(decode(start, end));
+            }
+
+            h = 31 * h + (b & 0xFF);
+        }
+
+        return h ^ (h >>> 16);
+    }
+
+    boolean insert(int entry) {
+        final int hash = hashes[entry];
+        int i = hash & mask;
+
+        while (slots[i] != 0) {
+            final int existing = slots[i] - 1;
+
+            if (hashes[existing] == hash && getKey(existing).equals(getKey(entry))) {
+                // Later entries replace earlier ones
+                slots[i] = entry + 1;
+                return false;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        slots[i] = entry + 1;
+        return true;
+    }
+
+    String decode(int start, int end) {
+        final byte[] bytes = new byte[end - start];
+        content.get(start, bytes);
+        return PropertiesParser.unescape(new String(bytes, charset));
+    }
+
+    String getKey(int entry) {
+        String key = keys[entry];
+
+        if (key == null) {
+            key = decode(offsets[entry * 4], offsets[entry * 4 + 1]);
+            keys[entry] = key;
+        }
+
+        return key;
+    }
+
+    String getValue(int entry) {
+        String value = values[entry];
+
+        if (value == null) {
+            value = decode(offsets[entry * 4 + 2], offsets[entry * 4 + 3]);
+            values[entry] = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        final int hash = PropertyTable.hash(key);
+        int i = hash & mask;
+        int slot;
+
+        while ((slot = slots[i]) != 0) {
+            final int entry = slot - 1;
+
+            if (hashes[entry] == hash && getKey(entry).equals(key)) {
+                return getValue(entry);
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a table holding every entry of the file, decoded on first use
+     */
+    PropertyTable decoded() {
+        PropertyTable result = decoded;
+
+        if (result == null) {
+            final String[] entries = new String[size * 2];
+            int e = 0;
+
+            for (int slot : slots) {
+                if (slot != 0) {
+                    entries[e++] = getKey(slot - 1);
+                    entries[e++] = getValue(slot - 1);
+                }
+            }
+
+            result = new PropertyTable(entries, size);
+            decoded = result;
+        }
+
+        return result;
+    }
+
+    @Override
+    Properties toProperties() {
+        return decoded().toProperties();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return decoded().entrySet();
+    }
+
+    /**
+     * View of the bytes of the file as ISO-8859-1 characters, used to find the
+     * entries of the file by their ASCII delimiters.
+     */
+    static final class Latin1Sequence implements CharSequence {
+        private final ByteBuffer content;
+
+        Latin1Sequence(ByteBuffer content) {
+            this.content = content;
+        }
+
+        @Override
+        public int length() {
+            return content.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (content.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            final byte[] bytes = new byte[end - start];
+            content.get(start, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
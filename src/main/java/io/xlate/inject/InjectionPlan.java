@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.lang.reflect.Member;
+import java.util.Objects;
+
+/**
+ * Immutable result of resolving the {@link Property} annotation of a single
+ * injection point. Plans are computed once per injection point (member and
+ * parameter position) and reused for every subsequent injection.
+ */
+class InjectionPlan {
+
+    private final Class<?> beanType;
+    private final String propertyName;
+    private final String systemPropertyKey;
+    private final ResourceHandle resource;
+    private final PropertyResourceFormat format;
+    private final boolean allowMissingResource;
+    private final String defaultValue;
+    private final boolean resolveEnvironment;
+    private final String pattern;
+    private volatile ResourceSnapshot.ConversionKey conversionKey;
+    private volatile Resolution resolution;
+
+    /**
+     * The value resolved for the plan from the system values, a snapshot of
+     * its resource and, when the resource did not give a value, a snapshot of
+     * the global properties. A null value records that the property was found nowhere.
+     */
+    static final class Resolution {
+        final SystemValues system;
+        final ResourceSnapshot resource;
+        final GlobalProperties globalFile;
+        final ResourceSnapshot global;
+        final String value;
+
+        Resolution(SystemValues system, ResourceSnapshot resource, GlobalProperties globalFile, ResourceSnapshot global, String value) {
+            this.system = system;
+            this.resource = resource;
+            this.globalFile = globalFile;
+            this.global = global;
+            this.value = value;
+        }
+    }
+
+    InjectionPlan(Class<?> beanType,
+                  String propertyName,
+                  String systemPropertyKey,
+                  ResourceHandle resource,
+                  PropertyResourceFormat format,
+                  boolean allowMissingResource,
+                  String defaultValue,
+                  boolean resolveEnvironment,
+                  String pattern) {
+        this.beanType = beanType;
+        this.propertyName = propertyName;
+        this.systemPropertyKey = systemPropertyKey;
+        this.resource = resource;
+        this.format = format;
+        this.allowMissingResource = allowMissingResource;
+        this.defaultValue = defaultValue;
+        this.resolveEnvironment = resolveEnvironment;
+        this.pattern = pattern;
+    }
+
+    Class<?> getBeanType() {
+        return beanType;
+    }
+
+    String getPropertyName() {
+        return propertyName;
+    }
+
+    String getSystemPropertyKey() {
+        return systemPropertyKey;
+    }
+
+    ResourceHandle getResource() {
+        return resource;
+    }
+
+    PropertyResourceFormat getFormat() {
+        return format;
+    }
+
+    boolean isAllowMissingResource() {
+        return allowMissingResource;
+    }
+
+    String getDefaultValue() {
+        return defaultValue;
+    }
+
+    boolean isResolveEnvironment() {
+        return resolveEnvironment;
+    }
+
+    String getPattern() {
+        return pattern;
+    }
+
+    Resolution getResolution() {
+        return resolution;
+    }
+
+    void setResolution(Resolution resolution) {
+        this.resolution = resolution;
+    }
+
+    ResourceSnapshot.ConversionKey getConversionKey(PropertyConverter<?> converter) {
+        ResourceSnapshot.ConversionKey key = conversionKey;
+
+        if (key == null || key.converter != converter) {
+            key = new ResourceSnapshot.ConversionKey(propertyName, converter, pattern);
+            conversionKey = key;
+        }
+
+        return key;
+    }
+
+    static final class Key {
+        private final Member member;
+        private final int position;
+
+        Key(Member member, int position) {
+            this.member = member;
+            this.position = position;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * member.hashCode() + position;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return position == other.position && Objects.equals(member, other.member);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only {@code Map} view of a resource's properties, overlaid on the
+ * global properties. The view is backed directly by the cached tables;
+ * creating it copies nothing, and entries of the global properties hidden by
+ * the resource are skipped while iterating.
+ */
+class LayeredPropertyMap extends AbstractMap<String, String> {
+
+    private final Map<String, String> resource;
+    private final Map<String, String> global;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    /**
+     * @param resource the properties of the resource
+     * @param global   the global properties, possibly null
+     */
+    LayeredPropertyMap(Map<String, String> resource, Map<String, String> global) {
+        this.resource = resource;
+        this.global = global;
+    }
+
+    @Override
+    public String get(Object key) {
+        String value = resource.get(key);
+
+        if (value == null && global != null) {
+            value = global.get(key);
+        }
+
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return resource.containsKey(key) || (global != null && global.containsKey(key));
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> result = entrySet;
+
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+
+        return result;
+    }
+
+    class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        private int size = -1;
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                int count = resource.size();
+
+                if (global != null) {
+                    for (Object key : global.keySet()) {
+                        if (!resource.containsKey(key)) {
+                            count++;
+                        }
+                    }
+                }
+
+                size = count;
+            }
+
+            return size;
+        }
+    }
+
+    class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private Iterator<Map.Entry<String, String>> current = resource.entrySet().iterator();
+        private boolean inGlobal = false;
+        private Map.Entry<String, String> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (current.hasNext()) {
+                    Map.Entry<String, String> entry = current.next();
+
+                    if (!inGlobal || !resource.containsKey(entry.getKey())) {
+                        next = entry;
+                    }
+                } else if (!inGlobal && global != null) {
+                    current = global.entrySet().iterator();
+                    inGlobal = true;
+                } else {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Map.Entry<String, String> result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A value containing placeholders, parsed once into alternating literal and
+ * reference segments. The supported references are:
+ *
+ * <ul>
+ * <li>{@code ${env.NAME}} - an environment variable
+ * <li>{@code ${sys.name}} - a system property
+ * <li>{@code ${prop.key}} or {@code ${key}} - another property of the same
+ * resource
+ * </ul>
+ *
+ * Each reference may give a default, e.g. {@code ${env.NAME:fallback}}, used
+ * when the referenced value is not defined. Without a default, an undefined
+ * {@code env.}, {@code sys.} or {@code prop.} reference renders as an empty
+ * string and an undefined {@code ${key}} reference is kept as is. Rendering
+ * concatenates the segments into a single right-sized buffer.
+ */
+final class PlaceholderTemplate {
+
+    static final int ENV = 0;
+    static final int SYS = 1;
+    static final int PROP = 2;
+    static final int KEY = 3;
+
+    private final String source;
+    /** Literal text before each reference, then the trailing text */
+    private final String[] literals;
+    private final Reference[] references;
+    private final int literalLength;
+
+    static final class Reference {
+        final int kind;
+        final String name;
+        final String defaultValue;
+        /** The text of the reference, rendered when a {@link #KEY} is undefined */
+        final String text;
+
+        Reference(int kind, String name, String defaultValue, String text) {
+            this.kind = kind;
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.text = text;
+        }
+    }
+
+    private PlaceholderTemplate(String source, List<String> literals, List<Reference> references) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        this.references = references.toArray(new Reference[0]);
+
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static PlaceholderTemplate parse(final String value) {
+        final List<String> literals = new ArrayList<>();
+        final List<Reference> references = new ArrayList<>();
+        int literalStart = 0;
+        int start = value.indexOf("${");
+
+        while (start >= 0) {
+            final int end = value.indexOf('}', start + 2);
+
+            if (end < 0) {
+                break;
+            }
+
+            final Reference reference = parseReference(value.substring(start + 2, end), value.substring(start, end + 1));
+
+            if (reference != null) {
+                literals.add(value.substring(literalStart, start));
+                references.add(reference);
+                literalStart = end + 1;
+                start = value.indexOf("${", literalStart);
+            } else {
+                start = value.indexOf("${", start + 1);
+            }
+        }
+
+        literals.add(value.substring(literalStart));
+
+        return new PlaceholderTemplate(value, literals, references);
+    }
+
+    /**
+     * @return the reference, or null when the body is not a valid reference
+     */
+    static Reference parseReference(final String body, final String text) {
+        if (body.indexOf('{') >= 0 || body.indexOf('$') >= 0) {
+            return null;
+        }
+
+        final int separator = body.indexOf(':');
+        final String name = separator < 0 ? body : body.substring(0, separator);
+        final String defaultValue = separator < 0 ? null : body.substring(separator + 1);
+        final int kind;
+        final String key;
+
+        if (name.startsWith("env.")) {
+            kind = ENV;
+            key = name.substring(4);
+
+            if (!isEnvironmentName(key)) {
+                return null;
+            }
+        } else if (name.startsWith("sys.")) {
+            kind = SYS;
+            key = name.substring(4);
+        } else if (name.startsWith("prop.")) {
+            kind = PROP;
+            key = name.substring(5);
+        } else {
+            kind = KEY;
+            key = name;
+        }
+
+        if (key.isEmpty() || !key.equals(key.strip())) {
+            return null;
+        }
+
+        return new Reference(kind, key, defaultValue, text);
+    }
+
+    static boolean isEnvironmentName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (!(c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+
+        return !name.isEmpty();
+    }
+
+    boolean isLiteral() {
+        return references.length == 0;
+    }
+
+    /**
+     * Render the template.
+     *
+     * @param system     resolves environment variable and system property
+     *                   references
+     * @param properties resolves references to other properties, or null when
+     *                   there are no other properties
+     * @return the value with all references replaced
+     */
+    String render(SystemValues system, UnaryOperator<String> properties) {
+        if (references.length == 0) {
+            return source;
+        }
+
+        final String[] resolved = new String[references.length];
+        int length = literalLength;
+
+        for (int i = 0; i < references.length; i++) {
+            resolved[i] = resolve(references[i], system, properties);
+            length += resolved[i].length();
+        }
+
+        final StringBuilder result = new StringBuilder(length);
+
+        for (int i = 0; i < references.length; i++) {
+            result.append(literals[i]).append(resolved[i]);
+        }
+
+        return result.append(literals[references.length]).toString();
+    }
+
+    static String resolve(Reference reference, SystemValues system, UnaryOperator<String> properties) {
+        final String name = reference.name;
+        final String value;
+
+        switch (reference.kind) {
+        case ENV:
+            value = system.getenv(name);
+            break;
+        case SYS:
+            value = system.getProperty(name);
+            break;
+        default:
+            value = properties != null ? properties.apply(name) : null;
+            break;
+        }
+
+        if (value != null) {
+            return value;
+        }
+        if (reference.defaultValue != null) {
+            return reference.defaultValue;
+        }
+
+        return reference.kind == KEY ? reference.text : "";
+    }
+}
@@ -0,0 +1,405 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Reads a resource in the format of {@link java.util.Properties#load(java.io.Reader)}
+ * directly into a {@link PropertyTable}. A stream is decoded incrementally
+ * into a window that only holds the text of the entry being read, and keys
+ * and values without escapes or line continuations are taken from the
+ * decoded text as-is, so no intermediate line buffer or {@code Hashtable} is
+ * used.
+ */
+final class PropertiesParser {
+
+    static final int WINDOW_SIZE = 8192;
+
+    private final CharSequence text;
+    private final ReaderWindow window;
+    private int length;
+    private final StringBuilder buffer = new StringBuilder();
+    private String[] entries = new String[64];
+    private int count;
+    private int position;
+
+    PropertiesParser(CharSequence text) {
+        this.text = text;
+        this.window = null;
+        this.length = text.length();
+    }
+
+    private PropertiesParser(ReaderWindow window) {
+        this.text = window;
+        this.window = window;
+        this.length = 0;
+    }
+
+    static PropertyTable parse(InputStream stream, Charset charset) throws IOException {
+        return parse(new InputStreamReader(stream, charset), WINDOW_SIZE);
+    }
+
+    static PropertyTable parse(Reader reader, int windowSize) throws IOException {
+        try {
+            return new PropertiesParser(new ReaderWindow(reader, windowSize)).parse();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    static PropertyTable parse(String text) {
+        return new PropertiesParser(text).parse();
+    }
+
+    /**
+     * Replace the escapes and line continuations in the raw text of a single
+     * key or value.
+     */
+    static String unescape(String raw) {
+        return raw.indexOf('\\') < 0 ? raw : new PropertiesParser(raw).readToken(false);
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return true when the text has a character at the index, reading more
+     *         of the stream when needed
+     */
+    boolean available(int index) {
+        if (index < length) {
+            return true;
+        }
+
+        if (window != null) {
+            length = window.fill(index);
+        }
+
+        return index < length;
+    }
+
+    PropertyTable parse() {
+        while (skipToKey()) {
+            final String key = readToken(true);
+            skipSeparator();
+            final String value = readToken(false);
+            add(key, value);
+            skipLineTerminator();
+        }
+
+        return count == 0 ? PropertyTable.EMPTY : new PropertyTable(entries, count);
+    }
+
+    /**
+     * Skip blank lines, comment lines and the leading whitespace of the next
+     * logical line.
+     *
+     * @return true when a key follows, false at the end of the text
+     */
+    boolean skipToKey() {
+        while (available(position)) {
+            if (window != null) {
+                // Text before the next key is no longer needed
+                window.release(position);
+            }
+
+            final char c = text.charAt(position);
+
+            if (isWhitespace(c) || c == '\r' || c == '\n') {
+                position++;
+            } else if (c == '#' || c == '!') {
+                while (available(position) && !isLineTerminator(text.charAt(position))) {
+                    position++;
+                }
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Skip the whitespace and optional '=' or ':' separating a key from its
+     * value.
+     */
+    void skipSeparator() {
+        skipWhitespace();
+
+        if (available(position)) {
+            final char c = text.charAt(position);
+
+            if (c == '=' || c == ':') {
+                position++;
+                skipWhitespace();
+            }
+        }
+    }
+
+    void skipWhitespace() {
+        while (available(position)) {
+            final char c = text.charAt(position);
+
+            if (isWhitespace(c)) {
+                position++;
+            } else if (c == '\\' && available(position + 1) && isLineTerminator(text.charAt(position + 1))) {
+                position++;
+                continueLine();
+            } else {
+                break;
+            }
+        }
+    }
+
+    void skipLineTerminator() {
+        if (available(position) && text.charAt(position++) == '\r' && available(position) && text.charAt(position) == '\n') {
+            position++;
+        }
+    }
+
+    /**
+     * Skip the line terminator at the current position and the leading
+     * whitespace of the line that continues the logical line.
+     */
+    void continueLine() {
+        skipLineTerminator();
+
+        while (available(position) && isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * Read a key or value up to the end of the logical line, or for a key up
+     * to the first unescaped separator. The token is copied into the buffer
+     * only once an escape or line continuation is found in it.
+     */
+    String readToken(boolean key) {
+        final int start = position;
+        boolean buffered = false;
+
+        while (available(position)) {
+            char c = text.charAt(position);
+
+            if (isLineTerminator(c) || key && (c == '=' || c == ':' || isWhitespace(c))) {
+                break;
+            }
+
+            if (c != '\\') {
+                if (buffered) {
+                    buffer.append(c);
+                }
+                position++;
+                continue;
+            }
+
+            if (!buffered) {
+                buffer.setLength(0);
+                buffer.append(text, start, position);
+                buffered = true;
+            }
+
+            if (!available(++position)) {
+                // A trailing backslash at the end of the text is dropped
+                break;
+            }
+
+            c = text.charAt(position);
+
+            if (isLineTerminator(c)) {
+                continueLine();
+            } else {
+                position++;
+                buffer.append(unescape(c));
+            }
+        }
+
+        return buffered ? buffer.toString() : text.subSequence(start, position).toString();
+    }
+
+    /**
+     * Move past a key or value as {@link #readToken(boolean)} does, without
+     * decoding it.
+     */
+    void skipToken(boolean key) {
+        while (available(position)) {
+            char c = text.charAt(position);
+
+            if (isLineTerminator(c) || key && (c == '=' || c == ':' || isWhitespace(c))) {
+                break;
+            }
+
+            if (c != '\\') {
+                position++;
+            } else if (available(++position)) {
+                if (isLineTerminator(text.charAt(position))) {
+                    continueLine();
+                } else {
+                    position++;
+                }
+            }
+        }
+    }
+
+    char unescape(char c) {
+        switch (c) {
+        case 't':
+            return '\t';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 'f':
+            return '\f';
+        case 'u':
+            return readUnicode();
+        default:
+            return c;
+        }
+    }
+
+    char readUnicode() {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            if (available(position + 1) && text.charAt(position) == '\\' && isLineTerminator(text.charAt(position + 1))) {
+                position++;
+                continueLine();
+            }
+
+            final int digit = available(position) ? Character.digit(text.charAt(position), 16) : -1;
+
+            if (digit < 0) {
+                throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+            }
+
+            value = (value << 4) + digit;
+            position++;
+        }
+
+        return (char) value;
+    }
+
+    void add(String key, String value) {
+        if (count * 2 == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+
+        entries[count * 2] = key;
+        entries[count * 2 + 1] = value;
+        count++;
+    }
+
+    /**
+     * The text decoded from a reader, indexed by its absolute position in the
+     * stream. Only the characters from the released position onward are kept,
+     * so the window grows beyond its initial size only for a single entry
+     * larger than it.
+     */
+    static final class ReaderWindow implements CharSequence {
+        private final Reader reader;
+        private char[] chars;
+        /** Absolute position of chars[0] */
+        private int offset;
+        /** Absolute position following the last character read */
+        private int end;
+        /** Absolute position of the first character still needed */
+        private int released;
+        private boolean eof;
+
+        ReaderWindow(Reader reader, int size) {
+            this.reader = reader;
+            this.chars = new char[size];
+        }
+
+        void release(int position) {
+            released = position;
+        }
+
+        /**
+         * Read from the reader until the character at the index is available
+         * or the end of the stream is reached.
+         *
+         * @return the absolute position following the last character read
+         */
+        int fill(int index) {
+            try {
+                while (!eof && index >= end) {
+                    if (end - offset == chars.length) {
+                        compact();
+                    }
+
+                    final int read = reader.read(chars, end - offset, chars.length - (end - offset));
+
+                    if (read < 0) {
+                        eof = true;
+                    } else {
+                        end += read;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return end;
+        }
+
+        void compact() {
+            final int retained = end - released;
+            final char[] target = retained > chars.length / 2 ? new char[chars.length * 2] : chars;
+            System.arraycopy(chars, released - offset, target, 0, retained);
+            chars = target;
+            offset = released;
+        }
+
+        @Override
+        public int length() {
+            return end;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index - offset];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start - offset, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, end - offset);
+        }
+    }
+
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    static boolean isLineTerminator(char c) {
+        return c == '\r' || c == '\n';
+    }
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import jakarta.enterprise.util.AnnotationLiteral;
 import jakarta.enterprise.util.Nonbinding;
 import jakarta.inject.Qualifier;
 
@@ -49,12 +50,20 @@ public @interface Property {
 
 	/**
 	 * The format of the property to be used when parsing a
-	 * {@link java.math.BigInteger}, {@link java.math.BigDecimal}, or
-	 * {@link java.util.Date}. When injecting numeric properties, the value of the
-	 * pattern must be a valid value to be used by
-	 * {@link java.text.DecimalFormat#DecimalFormat(String)}. When injecting date
-	 * properties, the pattern must be a valid value to be used by
-	 * {@link java.text.SimpleDateFormat}.
+	 * {@link java.math.BigInteger}, {@link java.math.BigDecimal},
+	 * {@link java.util.Date}, or a {@link java.time} type. When injecting
+	 * numeric properties, the value of the pattern must be a valid value to be
+	 * used by {@link java.text.DecimalFormat#DecimalFormat(String)}. When
+	 * injecting date properties, the pattern must be a valid value to be used
+	 * by {@link java.text.SimpleDateFormat}. When injecting
+	 * {@link java.time.Instant}, {@link java.time.LocalDate},
+	 * {@link java.time.LocalDateTime}, {@link java.time.OffsetDateTime}, or
+	 * {@link java.time.ZonedDateTime} properties, the pattern must be a valid
+	 * value to be used by
+	 * {@link java.time.format.DateTimeFormatter#ofPattern(String)} and the ISO
+	 * format of the type is used when no pattern is given. An
+	 * {@link java.time.Instant} pattern without an offset or zone is read as
+	 * UTC.
 	 *
 	 * @return pattern to be used for parsing numeric values or date values,
 	 *         depending on the context
@@ -122,9 +131,64 @@ public @interface Property {
 	 * literal string" and the resolved value of <code>prop2</code> will be
 	 * "Something dynamic and something literal".
 	 *
+	 * <p>
+	 * Values may also reference system properties (<code>${sys.name}</code>)
+	 * and other properties of the same resource (<code>${prop.key}</code> or
+	 * <code>${key}</code>), and any reference may give a default, e.g.
+	 * <code>${env.MY_ENV_VALUE:fallback}</code>. Circular references are
+	 * reported as an error. The references of a property are resolved once
+	 * each time its resource is loaded.
 	 *
 	 * @return true to resolve environment values, false otherwise
 	 */
 	@Nonbinding
 	public boolean resolveEnvironment() default false;
+
+	/**
+	 * Supports inline instantiation of the {@link Property} qualifier, e.g.
+	 * when registering synthetic beans.
+	 */
+	public static final class Literal extends AnnotationLiteral<Property> implements Property {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * A {@link Property} literal with all members set to their default
+		 * values.
+		 */
+		public static final Literal INSTANCE = new Literal();
+
+		private Literal() {
+		}
+
+		@Override
+		public String name() {
+			return "";
+		}
+
+		@Override
+		public String pattern() {
+			return "";
+		}
+
+		@Override
+		public PropertyResource resource() {
+			return PropertyResource.Literal.INSTANCE;
+		}
+
+		@Override
+		public String systemProperty() {
+			return "";
+		}
+
+		@Override
+		public String defaultValue() {
+			return DEFAULT_NULL;
+		}
+
+		@Override
+		public boolean resolveEnvironment() {
+			return false;
+		}
+	}
 }
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+/**
+ * Converts the string value of a property to the type of an injection point.
+ * Converters extend the set of types that may be injected using
+ * {@link Property @Property} (directly or as a {@link PropertyValue}) beyond
+ * the built-in types.
+ *
+ * <p>
+ * Converters are discovered in two ways:
+ * <ul>
+ * <li>using {@link java.util.ServiceLoader}, by listing the implementation
+ * class in {@code META-INF/services/io.xlate.inject.PropertyConverter} (or
+ * with a {@code provides} clause in {@code module-info.java})
+ * <li>as CDI beans having a bean type of {@code PropertyConverter<T>}
+ * </ul>
+ *
+ * The target type of a converter is the type argument {@code T} given where
+ * the implementation class implements this interface, e.g.
+ *
+ * <pre>
+ * public class CurrencyConverter implements PropertyConverter&lt;Currency&gt; {
+ *     public Currency convert(String value, String pattern) {
+ *         return Currency.getInstance(value);
+ *     }
+ * }
+ * </pre>
+ *
+ * The converter for each injection point is selected once while the
+ * container starts. Converters registered as CDI beans take precedence over
+ * those found using the {@code ServiceLoader}. Converters for the types
+ * having a dedicated producer method in {@link PropertyProducerBean} (e.g.
+ * {@code String}, {@code Integer}, {@code BigDecimal}) are ignored.
+ * Implementations must be thread safe.
+ *
+ * @param <T> the type produced by the converter
+ */
+public interface PropertyConverter<T> {
+
+    /**
+     * Convert a non-null property value.
+     *
+     * @param value   the property value to convert
+     * @param pattern the value of {@link Property#pattern()}, possibly empty
+     * @return the converted value
+     * @throws Exception when the value can not be converted
+     */
+    T convert(String value, String pattern) throws Exception;
+
+    /**
+     * Return a copy of a previously converted value that is safe to hand out
+     * to another caller. Converted values are cached and shared, so converters
+     * producing mutable values must override this method. Converters of
+     * immutable types return the value itself (the default).
+     *
+     * @param value a value previously returned by {@link #convert}
+     * @return the value or a copy of the value
+     */
+    default T copy(T value) {
+        return value;
+    }
+}
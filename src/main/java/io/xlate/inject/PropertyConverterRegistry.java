@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of the {@link PropertyConverter}s available to a deployment, keyed
+ * by target type. Converters registered explicitly (i.e. CDI beans) take
+ * precedence over those found using the {@link ServiceLoader}, which in turn
+ * take precedence over the built-in converters.
+ */
+class PropertyConverterRegistry {
+
+    private static final Logger logger = Logger.getLogger(PropertyConverterRegistry.class.getName());
+
+    private final ConcurrentMap<Type, PropertyConverter<?>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, PropertyConverter<?>> resolved = new ConcurrentHashMap<>();
+
+    PropertyConverterRegistry() {
+        this(loadServices());
+    }
+
+    PropertyConverterRegistry(Iterable<PropertyConverter<?>> services) {
+        final String method = "PropertyConverterRegistry.<init>()";
+
+        for (PropertyConverter<?> converter : services) {
+            Type type = getTargetType(converter.getClass());
+
+            if (type == null) {
+                logger.log(Level.WARNING, () -> method + " unable to determine target type of converter: " + converter.getClass().getName());
+            } else if (!isBuiltIn(type)) {
+                registered.putIfAbsent(type, converter);
+                logger.log(Level.FINER, () -> method + " loaded converter for type " + type + ": " + converter);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static Iterable<PropertyConverter<?>> loadServices() {
+        return (Iterable) ServiceLoader.load(PropertyConverter.class);
+    }
+
+    /**
+     * Register a converter for the given type, replacing any converter
+     * previously registered or loaded as a service for the type.
+     *
+     * @return false when the type is handled by a dedicated producer method
+     *         and the converter will not be used, otherwise true
+     */
+    boolean register(Type type, PropertyConverter<?> converter) {
+        if (isBuiltIn(type)) {
+            return false;
+        }
+
+        registered.put(type, converter);
+        resolved.remove(type);
+        return true;
+    }
+
+    /**
+     * Find the converter for the given type. The result of the lookup is
+     * retained so that subsequent calls for the same type are a single map
+     * lookup.
+     *
+     * @return the converter, or null when no converter supports the type
+     */
+    @SuppressWarnings("unchecked")
+    <T> PropertyConverter<T> forType(Type type) {
+        PropertyConverter<?> converter = resolved.get(type);
+
+        if (converter == null) {
+            converter = registered.get(type);
+
+            if (converter == null) {
+                converter = PropertyConverters.forType(type);
+            }
+
+            if (converter != null) {
+                resolved.put(type, converter);
+            }
+        }
+
+        return (PropertyConverter<T>) converter;
+    }
+
+    /**
+     * Determine whether any converter is available for the type, without
+     * instantiating converters for enum types.
+     */
+    boolean isSupported(Type type) {
+        return registered.containsKey(type) || PropertyConverters.forType(type) != null;
+    }
+
+    static boolean isBuiltIn(Type type) {
+        return PropertyConverters.producerConverters.containsKey(type);
+    }
+
+    /**
+     * Find the type argument given for {@link PropertyConverter} by the
+     * class or one of its superclasses.
+     *
+     * @return the target type, or null when it can not be determined (e.g. a
+     *         lambda or a class that leaves the type argument unbound)
+     */
+    static Type getTargetType(Class<?> converterClass) {
+        for (Class<?> type = converterClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Type iface : type.getGenericInterfaces()) {
+                Type target = getTargetType(iface);
+
+                if (target != null) {
+                    return target;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    static Type getTargetType(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+
+            if (parameterized.getRawType() == PropertyConverter.class) {
+                Type target = parameterized.getActualTypeArguments()[0];
+                return target instanceof Class || target instanceof ParameterizedType ? target : null;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+
+/**
+ * Built-in {@link PropertyConverter}s.
+ */
+final class PropertyConverters {
+
+    private static final Logger logger = Logger.getLogger(PropertyConverters.class.getName());
+
+    static final PropertyConverter<String> STRING = (value, pattern) -> value;
+    static final PropertyConverter<Boolean> BOOLEAN = (value, pattern) -> Boolean.valueOf(value);
+    static final PropertyConverter<Integer> INTEGER = (value, pattern) -> Integer.valueOf(value);
+    static final PropertyConverter<Long> LONG = (value, pattern) -> Long.valueOf(value);
+    static final PropertyConverter<Float> FLOAT = (value, pattern) -> Float.valueOf(value);
+    static final PropertyConverter<Double> DOUBLE = (value, pattern) -> Double.valueOf(value);
+    static final PropertyConverter<BigDecimal> BIG_DECIMAL = PropertyConverters::toBigDecimal;
+    static final PropertyConverter<BigInteger> BIG_INTEGER = (value, pattern) -> toBigDecimal(value, pattern).toBigInteger();
+    static final PropertyConverter<Date> DATE = new PropertyConverter<Date>() {
+        @Override
+        public Date convert(String value, String pattern) throws Exception {
+            return new SimpleDateFormat(pattern.isEmpty() ? "yyyy-MM-dd'T'HH:mm:ss.SSSZ" : pattern).parse(value);
+        }
+
+        @Override
+        public Date copy(Date value) {
+            return (Date) value.clone();
+        }
+    };
+    static final PropertyConverter<Duration> DURATION = (value, pattern) -> Duration.parse(value);
+    static final PropertyConverter<Period> PERIOD = (value, pattern) -> Period.parse(value);
+    static final PropertyConverter<Instant> INSTANT = temporal(DateTimeFormatter.ISO_INSTANT, Instant::from, PropertyConverters::getUtcFormatter);
+    static final PropertyConverter<LocalDate> LOCAL_DATE = temporal(DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from);
+    static final PropertyConverter<LocalDateTime> LOCAL_DATE_TIME = temporal(DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+    static final PropertyConverter<OffsetDateTime> OFFSET_DATE_TIME = temporal(DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+    static final PropertyConverter<ZonedDateTime> ZONED_DATE_TIME = temporal(DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+    static final PropertyConverter<URI> URI = (value, pattern) -> java.net.URI.create(value);
+    static final PropertyConverter<Path> PATH = (value, pattern) -> Paths.get(value);
+
+    /**
+     * Types with a dedicated producer method in {@link PropertyProducerBean}.
+     */
+    static final Map<Type, PropertyConverter<?>> producerConverters = new HashMap<>();
+    private static final Map<Type, PropertyConverter<?>> converters = new HashMap<>();
+
+    /**
+     * Formatters compiled from {@link Property#pattern()}, shared by all
+     * threads. DateTimeFormatter is immutable and thread safe.
+     */
+    private static final ConcurrentMap<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    /**
+     * Formatters for {@link Instant} patterns, which read values without an
+     * offset as UTC.
+     */
+    private static final ConcurrentMap<String, DateTimeFormatter> utcFormatters = new ConcurrentHashMap<>();
+
+    static {
+        producerConverters.put(String.class, STRING);
+        producerConverters.put(Boolean.class, BOOLEAN);
+        producerConverters.put(Boolean.TYPE, BOOLEAN);
+        producerConverters.put(Integer.class, INTEGER);
+        producerConverters.put(Integer.TYPE, INTEGER);
+        producerConverters.put(Long.class, LONG);
+        producerConverters.put(Long.TYPE, LONG);
+        producerConverters.put(Float.class, FLOAT);
+        producerConverters.put(Float.TYPE, FLOAT);
+        producerConverters.put(Double.class, DOUBLE);
+        producerConverters.put(Double.TYPE, DOUBLE);
+        producerConverters.put(BigDecimal.class, BIG_DECIMAL);
+        producerConverters.put(BigInteger.class, BIG_INTEGER);
+        producerConverters.put(Date.class, DATE);
+
+        if (isJsonAvailable()) {
+            JsonConverters.register(producerConverters);
+        }
+
+        converters.putAll(producerConverters);
+        converters.put(Duration.class, DURATION);
+        converters.put(Period.class, PERIOD);
+        converters.put(Instant.class, INSTANT);
+        converters.put(LocalDate.class, LOCAL_DATE);
+        converters.put(LocalDateTime.class, LOCAL_DATE_TIME);
+        converters.put(OffsetDateTime.class, OFFSET_DATE_TIME);
+        converters.put(ZonedDateTime.class, ZONED_DATE_TIME);
+        converters.put(java.net.URI.class, URI);
+        converters.put(Path.class, PATH);
+    }
+
+    private PropertyConverters() {
+    }
+
+    /**
+     * JSON-P is an optional dependency (<code>requires static</code>), so
+     * check that it is present before loading {@link JsonConverters}.
+     */
+    static boolean isJsonAvailable() {
+        try {
+            Class.forName("jakarta.json.Json", false, PropertyConverters.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.log(Level.FINER, () -> "JSON-P not available, JSON converters not registered: " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Find the built-in converter for the given target type.
+     *
+     * @param <T>  the target type
+     * @param type the target type
+     * @return the converter, or null when the type is not supported
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static <T> PropertyConverter<T> forType(Type type) {
+        PropertyConverter<T> converter = (PropertyConverter<T>) converters.get(type);
+
+        if (converter == null && type instanceof Class && ((Class<?>) type).isEnum()) {
+            converter = new EnumConverter((Class<? extends Enum>) type);
+        }
+
+        return converter;
+    }
+
+    static <T> PropertyConverter<T> temporal(DateTimeFormatter defaultFormatter, TemporalQuery<T> query) {
+        return temporal(defaultFormatter, query, PropertyConverters::getFormatter);
+    }
+
+    static <T> PropertyConverter<T> temporal(DateTimeFormatter defaultFormatter,
+                                             TemporalQuery<T> query,
+                                             Function<String, DateTimeFormatter> patternFormatter) {
+        return (value, pattern) -> {
+            DateTimeFormatter formatter = pattern.isEmpty() ? defaultFormatter : patternFormatter.apply(pattern);
+            return formatter.parse(value, query);
+        };
+    }
+
+    static DateTimeFormatter getFormatter(String pattern) {
+        DateTimeFormatter formatter = formatters.get(pattern);
+
+        if (formatter == null) {
+            formatter = formatters.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+        }
+
+        return formatter;
+    }
+
+    static DateTimeFormatter getUtcFormatter(String pattern) {
+        DateTimeFormatter formatter = utcFormatters.get(pattern);
+
+        if (formatter == null) {
+            formatter = utcFormatters.computeIfAbsent(pattern, p -> getFormatter(p).withZone(ZoneOffset.UTC));
+        }
+
+        return formatter;
+    }
+
+    static class EnumConverter<E extends Enum<E>> implements PropertyConverter<E> {
+        private final Class<E> type;
+
+        EnumConverter(Class<E> type) {
+            this.type = type;
+        }
+
+        @Override
+        public E convert(String value, String pattern) {
+            return Enum.valueOf(type, value.trim());
+        }
+    }
+
+    static BigDecimal toBigDecimal(String value, String pattern) throws Exception {
+        final BigDecimal number;
+
+        if (pattern.isEmpty()) {
+            number = new BigDecimal(value);
+        } else {
+            logger.log(Level.FINER, () -> "Parsing number with using pattern [" + pattern + ']');
+            DecimalFormat format = new DecimalFormat(pattern);
+            format.setParseBigDecimal(true);
+            number = (BigDecimal) format.parse(value);
+        }
+
+        return number;
+    }
+
+    /**
+     * Converters for the JSON-P types. Only this class refers to
+     * <code>jakarta.json</code>, so it must only be loaded when JSON-P is
+     * present.
+     */
+    static final class JsonConverters {
+        static final PropertyConverter<JsonArray> JSON_ARRAY = (value, pattern) -> toJson(value, JsonReader::readArray);
+        static final PropertyConverter<JsonObject> JSON_OBJECT = (value, pattern) -> toJson(value, JsonReader::readObject);
+
+        private JsonConverters() {
+        }
+
+        static void register(Map<Type, PropertyConverter<?>> target) {
+            target.put(JsonArray.class, JSON_ARRAY);
+            target.put(JsonObject.class, JSON_OBJECT);
+        }
+
+        static <T extends JsonStructure> T toJson(String value, Function<JsonReader, T> jsonSupplier) {
+            try (JsonReader reader = Json.createReader(new StringReader(value))) {
+                return jsonSupplier.apply(reader);
+            }
+        }
+    }
+}
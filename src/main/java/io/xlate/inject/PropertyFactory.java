@@ -16,33 +16,135 @@
  ******************************************************************************/
 package io.xlate.inject;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Member;
 import java.net.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.AmbiguousResolutionException;
 import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.Annotated;
 import jakarta.enterprise.inject.spi.AnnotatedParameter;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
-class PropertyFactory {
+class PropertyFactory implements AutoCloseable {
 
     private static final Logger logger = Logger.getLogger(PropertyFactory.class.getName());
     private static final String CLASSPATH = "classpath";
-    final Map<String, Properties> propertiesCache;
+    final ConcurrentMap<String, ResourceHandle> propertiesCache;
+    final ConcurrentMap<InjectionPlan.Key, InjectionPlan> injectionPlans;
+    final ConcurrentMap<String, PlaceholderTemplate> templates;
+    final ResourceWatcher watcher;
+    final RemoteResourceCache remoteCache;
+    final RemoteResourcePoller poller;
+    final PropertyConverterRegistry converters;
+    final boolean systemSnapshot;
+    volatile GlobalResource globalResource;
+    volatile SystemValues system = SystemValues.LIVE;
+
+    /**
+     * The resolved global properties given by cacheable
+     * {@link PropertyFileProvider}s, with null properties when the deployment
+     * has no provider.
+     */
+    static final class GlobalResource {
+        static final GlobalResource NONE = new GlobalResource(null);
+
+        final GlobalProperties properties;
+
+        GlobalResource(GlobalProperties properties) {
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * The values read from a {@link PropertyFileProvider}, kept so that a
+     * dependent provider can be destroyed as soon as it has been read.
+     */
+    static final class ProviderLocations {
+        final String name;
+        final int priority;
+        final List<String> locations;
+        final boolean cacheable;
+
+        ProviderLocations(PropertyFileProvider provider) {
+            name = provider.getClass().getName();
+            priority = provider.getPriority();
+            locations = provider.getLocations();
+            cacheable = provider.isCacheable();
+        }
+    }
 
     PropertyFactory() {
-        propertiesCache = new HashMap<>();
+        this(PropertyInjectionOptions.isReloadEnabled()
+                ? new ResourceWatcher(PropertyInjectionOptions.getReloadInterval())
+                : null);
+    }
+
+    PropertyFactory(ResourceWatcher watcher) {
+        propertiesCache = new ConcurrentHashMap<>();
+        injectionPlans = new ConcurrentHashMap<>();
+        templates = new ConcurrentHashMap<>();
+        this.watcher = watcher;
+        remoteCache = new RemoteResourceCache(PropertyInjectionOptions.getRemoteCacheDirectory());
+        poller = PropertyInjectionOptions.getRemoteRefreshInterval() > 0
+                ? new RemoteResourcePoller(PropertyInjectionOptions.getRemoteRefreshInterval(),
+                                           PropertyInjectionOptions.getRemoteRefreshJitter())
+                : null;
+        converters = new PropertyConverterRegistry();
+        systemSnapshot = PropertyInjectionOptions.isSystemSnapshotEnabled();
+        refreshSystemProperties();
+    }
+
+    PropertyConverterRegistry getConverters() {
+        return converters;
+    }
+
+    /**
+     * Replace the snapshot of the environment and system properties, when
+     * they are read from a snapshot.
+     */
+    void refreshSystemProperties() {
+        if (systemSnapshot) {
+            system = SystemValues.snapshot();
+        }
+    }
+
+    /**
+     * Find the value of a system property, from the snapshot when one is
+     * used.
+     */
+    String getSystemProperty(final String key) {
+        return system.getProperty(key);
+    }
+
+    @Override
+    public void close() {
+        if (watcher != null) {
+            watcher.close();
+        }
+        if (poller != null) {
+            poller.close();
+        }
     }
 
     URLStreamHandler classPathHandler(Class<?> beanType) {
@@ -103,6 +205,101 @@ class PropertyFactory {
         return resourceUrl;
     }
 
+    InjectionPlan getInjectionPlan(final InjectionPoint point) throws MalformedURLException {
+        final Member member = point.getMember();
+        final int position;
+
+        if (member instanceof Executable) {
+            position = ((AnnotatedParameter<?>) point.getAnnotated()).getPosition();
+        } else {
+            position = -1;
+        }
+
+        final InjectionPlan.Key key = new InjectionPlan.Key(member, position);
+        final InjectionPlan plan = injectionPlans.get(key);
+
+        if (plan != null) {
+            return plan;
+        }
+
+        final InjectionPlan created = createInjectionPlan(point);
+        final InjectionPlan existing = injectionPlans.putIfAbsent(key, created);
+
+        return existing != null ? existing : created;
+    }
+
+    InjectionPlan createInjectionPlan(final InjectionPoint point) throws MalformedURLException {
+        final Property annotation = point.getAnnotated().getAnnotation(Property.class);
+        final Class<?> beanType = point.getMember().getDeclaringClass();
+        final String propertyName = getPropertyName(point, annotation.name());
+        final PropertyResource resource = annotation.resource();
+
+        return new InjectionPlan(beanType,
+                                 propertyName,
+                                 getSystemPropertyKey(beanType, annotation.systemProperty(), propertyName),
+                                 getResourceHandle(resource, beanType),
+                                 resource.format(),
+                                 resource.allowMissingResource(),
+                                 annotation.defaultValue(),
+                                 annotation.resolveEnvironment(),
+                                 annotation.pattern());
+    }
+
+    /**
+     * Load the given resources in parallel, returning once every load has
+     * completed. Remote resources are fetched asynchronously, all at once
+     * subject to the per-host limit, and the others are read using at most
+     * {@code parallelism} threads. Failures are not cached and will be raised
+     * again by the first caller that needs the resource.
+     */
+    void loadAll(final Collection<ResourceHandle> resources, final int parallelism) {
+        final List<CompletableFuture<?>> loads = new ArrayList<>();
+        final List<ResourceHandle> local = new ArrayList<>();
+
+        for (ResourceHandle resource : resources) {
+            if (resource.isRemote()) {
+                loads.add(resource.loadAsync().exceptionally(e -> {
+                    logger.log(Level.FINE, e, () -> "Preloading resource failed: " + resource.getResourceUrl());
+                    return null;
+                }));
+            } else {
+                local.add(resource);
+            }
+        }
+
+        final int threads = Math.min(parallelism, local.size());
+        ExecutorService executor = null;
+
+        if (threads > 0) {
+            final AtomicInteger threadId = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "property-inject-preload-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            for (ResourceHandle resource : local) {
+                loads.add(CompletableFuture.runAsync(() -> load(resource), executor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    void load(final ResourceHandle resource) {
+        try {
+            resource.getProperties(false);
+        } catch (Exception e) {
+            logger.log(Level.FINE, e, () -> "Preloading resource failed: " + resource.getResourceUrl());
+        }
+    }
+
     String getPropertyName(final InjectionPoint point, final String propertyName) {
         if (!propertyName.isEmpty()) {
             return propertyName;
@@ -122,9 +319,9 @@ class PropertyFactory {
         return name;
     }
 
-    String getSystemProperty(final Class<?> beanType,
-                             final String systemProperty,
-                             final String propertyName) {
+    String getSystemPropertyKey(final Class<?> beanType,
+                                final String systemProperty,
+                                final String propertyName) {
 
         final String lookupProperty;
 
@@ -138,7 +335,14 @@ class PropertyFactory {
             lookupProperty = systemProperty;
         }
 
-        return getProperty(System.getProperties(), lookupProperty, Property.DEFAULT_NULL);
+        return lookupProperty;
+    }
+
+    String getSystemProperty(final Class<?> beanType,
+                             final String systemProperty,
+                             final String propertyName) {
+
+        return getSystemProperty(getSystemPropertyKey(beanType, systemProperty, propertyName));
     }
 
     String getProperty(final URL resourceUrl,
@@ -147,42 +351,223 @@ class PropertyFactory {
                        final String propertyName,
                        final String defaultValue) throws IOException {
 
-        final Properties properties = getProperties(resourceUrl, format, allowMissingResource);
-        return getProperty(properties, propertyName, defaultValue);
+        return getProperty(getResourceHandle(resourceUrl, format).getTable(allowMissingResource), propertyName, defaultValue);
     }
 
-    Properties getProperties(final URL resourceUrl,
-                             final PropertyResourceFormat format,
-                             boolean allowMissingResource) throws IOException {
+    /**
+     * Resolve the raw value for an injection plan: the system property, then
+     * the plan's resource, then the global file given by the
+     * {@link PropertyFileProvider}, when one is available. The result from
+     * the resource and global file, including the absence of any value, is
+     * kept by the plan until either of them is reloaded.
+     */
+    String getProperty(final InjectionPlan plan, final Instance<PropertyFileProvider> fileProvider) throws IOException {
+        // Read once, so that the whole injection sees the same system values
+        final SystemValues system = this.system;
+        final String systemProperty = system.getProperty(plan.getSystemPropertyKey());
+
+        if (systemProperty != null) {
+            return systemProperty;
+        }
+
+        final GlobalProperties globalFile = getGlobalProperties(fileProvider);
+        final boolean allowMissingResource = globalFile != null || plan.isAllowMissingResource();
+        final ResourceSnapshot resource = plan.getResource().getSnapshot(allowMissingResource);
+        final InjectionPlan.Resolution cached = plan.getResolution();
 
-        final Properties properties;
-        final String resourceId = resourceUrl.toString();
+        if (cached != null && cached.system == system && cached.resource == resource && cached.globalFile == globalFile
+                && (cached.global == null || cached.global == globalFile.getSnapshot(plan.isAllowMissingResource()))) {
+            return cached.value;
+        }
+
+        final InjectionPlan.Resolution resolved = resolve(plan, system, resource, globalFile);
+        plan.setResolution(resolved);
+        return resolved.value;
+    }
 
-        if (propertiesCache.containsKey(resourceId)) {
-            properties = propertiesCache.get(resourceId);
+    InjectionPlan.Resolution resolve(final InjectionPlan plan,
+                                     final SystemValues system,
+                                     final ResourceSnapshot resource,
+                                     final GlobalProperties globalFile) throws IOException {
+
+        final String propertyName = plan.getPropertyName();
+        final String defaultValue = plan.getDefaultValue();
+        String value;
+
+        if (plan.isResolveEnvironment()) {
+            value = expandProperty(system, resource, propertyName);
+
+            if (value == null && !Property.DEFAULT_NULL.equals(defaultValue)) {
+                value = resolvePlaceholders(system, resource, defaultValue);
+            }
         } else {
-            properties = new Properties();
-            propertiesCache.put(resourceId, properties);
+            value = getProperty(resource.getTable(), propertyName, defaultValue);
+        }
 
-            try (InputStream resourceStream = resourceUrl.openStream()) {
-                if (PropertyResourceFormat.XML == format) {
-                    properties.loadFromXML(resourceStream);
-                } else {
-                    properties.load(resourceStream);
-                }
-            } catch (FileNotFoundException e) {
-                if (allowMissingResource) {
-                    logger.log(Level.WARNING, e, () -> "Resource not found: " + resourceUrl);
-                    properties.clear();
-                } else {
-                    throw e;
+        if (value != null || globalFile == null) {
+            return new InjectionPlan.Resolution(system, resource, globalFile, null, value);
+        }
+
+        final ResourceSnapshot global = globalFile.getSnapshot(plan.isAllowMissingResource());
+        value = getProperty(global.getTable(), propertyName, defaultValue);
+        return new InjectionPlan.Resolution(system, resource, globalFile, global, value);
+    }
+
+    /**
+     * Find the global properties given by the {@link PropertyFileProvider}s,
+     * if any. The providers are resolved only once when all of them are
+     * cacheable (the default), otherwise on every call.
+     *
+     * @return the global properties, or null when there is no provider
+     * @throws AmbiguousResolutionException when two providers have the same
+     *                                      priority
+     */
+    GlobalProperties getGlobalProperties(final Instance<PropertyFileProvider> fileProvider) throws MalformedURLException {
+        final GlobalResource cached = globalResource;
+
+        if (cached != null) {
+            return cached.properties;
+        }
+
+        if (fileProvider == null) {
+            return null;
+        }
+
+        if (fileProvider.isUnsatisfied()) {
+            globalResource = GlobalResource.NONE;
+            return null;
+        }
+
+        final List<ProviderLocations> providers = new ArrayList<>();
+
+        for (Instance.Handle<PropertyFileProvider> handle : fileProvider.handles()) {
+            try {
+                providers.add(new ProviderLocations(handle.get()));
+            } finally {
+                if (handle.getBean().getScope() == Dependent.class) {
+                    // Only the locations are kept, release the instance created for this lookup
+                    handle.destroy();
                 }
             }
         }
 
+        providers.sort(Comparator.comparingInt(provider -> provider.priority));
+
+        for (int i = 1; i < providers.size(); i++) {
+            ProviderLocations previous = providers.get(i - 1);
+            ProviderLocations current = providers.get(i);
+
+            if (previous.priority == current.priority) {
+                // The order of the layers would depend on the order of bean resolution
+                throw new AmbiguousResolutionException("PropertyFileProviders " + previous.name + " and "
+                        + current.name + " have the same priority " + current.priority);
+            }
+        }
+
+        final List<ResourceHandle> layers = new ArrayList<>();
+        boolean cacheable = true;
+
+        for (ProviderLocations provider : providers) {
+            for (String location : provider.locations) {
+                layers.add(getResourceHandle(getResourceUrl(location), getFormat(location)));
+            }
+
+            cacheable &= provider.cacheable;
+        }
+
+        final GlobalProperties properties = new GlobalProperties(layers);
+
+        if (cacheable) {
+            globalResource = new GlobalResource(properties);
+        }
+
         return properties;
     }
 
+    static PropertyResourceFormat getFormat(String location) {
+        return location.endsWith(".xml") ? PropertyResourceFormat.XML : PropertyResourceFormat.PROPERTIES;
+    }
+
+    String getProperty(final ResourceHandle resource,
+                       final boolean allowMissingResource,
+                       final String propertyName,
+                       final String defaultValue) throws IOException {
+
+        return getProperty(resource.getTable(allowMissingResource), propertyName, defaultValue);
+    }
+
+    /**
+     * Convert a resolved property value, reusing the value converted for the
+     * same property, type and pattern from the current snapshot of the
+     * plan's resource when the raw value has not changed.
+     */
+    <T> T convert(final InjectionPlan plan, final String value, final PropertyConverter<T> converter) throws Exception {
+        final ResourceSnapshot snapshot = plan.getResource().getSnapshot();
+
+        if (snapshot == null) {
+            return converter.convert(value, plan.getPattern());
+        }
+
+        return snapshot.convert(plan.getConversionKey(converter), value, converter);
+    }
+
+    Properties getProperties(final URL resourceUrl,
+                             final PropertyResourceFormat format,
+                             boolean allowMissingResource) throws IOException {
+
+        return getResourceHandle(resourceUrl, format).getProperties(allowMissingResource);
+    }
+
+    ResourceHandle getResourceHandle(final PropertyResource annotation, final Class<?> beanType) throws MalformedURLException {
+        return getResourceHandle(getResourceUrl(annotation, beanType), annotation.format(), Charset.forName(annotation.charset()));
+    }
+
+    ResourceHandle getResourceHandle(final URL resourceUrl, final PropertyResourceFormat format) {
+        return getResourceHandle(resourceUrl, format, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Find the cache entry for a resource, keyed by its URL and, for a
+     * resource decoded with a character set other than the default
+     * ISO-8859-1, the name of the character set.
+     */
+    ResourceHandle getResourceHandle(final URL resourceUrl, final PropertyResourceFormat format, final Charset charset) {
+        final String resourceId;
+
+        if (StandardCharsets.ISO_8859_1.equals(charset) || format == PropertyResourceFormat.XML) {
+            resourceId = resourceUrl.toString();
+        } else {
+            resourceId = resourceUrl.toString() + ';' + charset.name();
+        }
+
+        final ResourceHandle handle = propertiesCache.get(resourceId);
+
+        if (handle != null) {
+            return handle;
+        }
+
+        final ResourceHandle created = propertiesCache.computeIfAbsent(resourceId, id -> new ResourceHandle(resourceUrl, format, charset, remoteCache));
+
+        if (watcher != null && ResourceWatcher.isWatchable(resourceUrl)) {
+            watcher.watch(created);
+        }
+        if (poller != null && created.isRemote()) {
+            poller.poll(created);
+        }
+
+        return created;
+    }
+
+    String getProperty(final PropertyTable table, final String propertyName, final String defaultValue) {
+        final String value = table.get(propertyName);
+
+        if (value == null && !Property.DEFAULT_NULL.equals(defaultValue)) {
+            return defaultValue;
+        }
+
+        return value;
+    }
+
     String getProperty(final Properties properties, final String propertyName, final String defaultValue) {
         final String value;
 
@@ -195,31 +580,112 @@ class PropertyFactory {
         return value;
     }
 
+    /**
+     * Find the parsed template of a value that does not change while the
+     * application runs, i.e. a resource location or a default value. Values
+     * read from resources are not cached here, since every reload would add
+     * entries that are never removed.
+     */
+    PlaceholderTemplate getTemplate(final String value) {
+        PlaceholderTemplate template = templates.get(value);
+
+        if (template == null) {
+            template = templates.computeIfAbsent(value, PlaceholderTemplate::parse);
+        }
+
+        return template;
+    }
+
+    /**
+     * Replace the environment variable and system property references in a
+     * value that is not part of a resource, e.g. a resource location.
+     */
     String replaceEnvironmentReferences(final String value) {
-        StringBuilder result = new StringBuilder(value.length());
-        Pattern pattern = Pattern.compile("\\$\\{env\\.([_a-zA-Z0-9]+)\\}");
-        Matcher m = pattern.matcher(value);
-        int start = 0;
+        if (value.indexOf("${") < 0) {
+            return value;
+        }
 
-        while (m.find()) {
-            String variableName = m.group(1);
-            String variableValue = System.getenv(variableName);
+        return getTemplate(value).render(system, null);
+    }
 
-            result.append(value.substring(start, m.start()));
+    /**
+     * Replace the references in a default value, resolving references to
+     * other properties from the snapshot.
+     */
+    String resolvePlaceholders(final ResourceSnapshot snapshot, final String value) {
+        return resolvePlaceholders(system, snapshot, value);
+    }
 
-            if (variableValue != null) {
-                result.append(variableValue);
-            }
+    String resolvePlaceholders(final SystemValues system, final ResourceSnapshot snapshot, final String value) {
+        if (value.indexOf("${") < 0) {
+            return value;
+        }
+
+        final Deque<String> resolving = new ArrayDeque<>();
+        return getTemplate(value).render(system, key -> expandProperty(system, snapshot, key, resolving));
+    }
+
+    /**
+     * Find the value of a property with all of its references replaced. The
+     * result is retained by the snapshot, so the references of each property
+     * are resolved once per loaded version of the resource.
+     *
+     * @return the expanded value, or null when the snapshot does not contain
+     *         the property
+     */
+    String expandProperty(final ResourceSnapshot snapshot, final String propertyName) {
+        return expandProperty(system, snapshot, propertyName);
+    }
+
+    String expandProperty(final SystemValues system, final ResourceSnapshot snapshot, final String propertyName) {
+        final String expanded = snapshot.getExpanded(system, propertyName);
+
+        if (expanded != null) {
+            return expanded;
+        }
+
+        return expandProperty(system, snapshot, propertyName, new ArrayDeque<>());
+    }
+
+    String expandProperty(final SystemValues system,
+                          final ResourceSnapshot snapshot,
+                          final String propertyName,
+                          final Deque<String> resolving) {
+        final String expanded = snapshot.getExpanded(system, propertyName);
 
-            start = m.end();
+        if (expanded != null) {
+            return expanded;
         }
 
-        if (start > 0) {
-            result.append(value.substring(start));
+        final String raw = snapshot.get(propertyName);
+
+        if (raw == null) {
+            return null;
+        }
+
+        if (resolving.contains(propertyName)) {
+            StringBuilder cycle = new StringBuilder();
+            resolving.descendingIterator().forEachRemaining(key -> cycle.append(key).append(" -> "));
+            cycle.append(propertyName);
+            throw new IllegalArgumentException("Circular property reference: " + cycle);
+        }
+
+        final String result;
+
+        if (raw.indexOf("${") < 0) {
+            result = raw;
         } else {
-            return value;
+            resolving.push(propertyName);
+
+            try {
+                // Parsed once per snapshot, the result is retained below
+                result = PlaceholderTemplate.parse(raw).render(system, key -> expandProperty(system, snapshot, key, resolving));
+            } finally {
+                resolving.pop();
+            }
         }
 
-        return result.toString();
+        snapshot.putExpanded(system, propertyName, result);
+        return result;
     }
 }
@@ -1,7 +1,56 @@
 package io.xlate.inject;
 
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Supplies the locations of global property files, consulted for properties
+ * not found in the resource of an injection point. A deployment may contain
+ * several providers; their files are merged into a single set of properties
+ * where the files of providers with a higher {@link #getPriority() priority}
+ * take precedence.
+ */
 public interface PropertyFileProvider {
 	
 	String getLocation();
 
+	/**
+	 * The locations of the global property files given by this provider, in
+	 * increasing order of precedence. Properties from a location replace those
+	 * of the same name from the locations before it, e.g. defaults, then
+	 * region, then host overrides.
+	 *
+	 * @return the locations of this provider, by default only
+	 *         {@link #getLocation()}
+	 */
+	default List<String> getLocations() {
+		return Collections.singletonList(getLocation());
+	}
+
+	/**
+	 * The priority of this provider's locations relative to those of the other
+	 * providers in the deployment. Locations of a provider with a higher
+	 * priority take precedence. Each provider in a deployment must have a
+	 * distinct priority, otherwise injection of the properties fails.
+	 *
+	 * @return the priority of the provider, 0 by default
+	 */
+	default int getPriority() {
+		return 0;
+	}
+
+	/**
+	 * Indicates whether the locations returned by {@link #getLocations()} may
+	 * be resolved once and reused for every subsequent injection. Providers
+	 * whose locations intentionally change while the application runs must
+	 * return false so that the provider is resolved again for each
+	 * injection.
+	 *
+	 * @return true (the default) when the locations are constant, otherwise
+	 *         false
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
 }
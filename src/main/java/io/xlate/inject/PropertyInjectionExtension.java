@@ -16,17 +16,79 @@
  ******************************************************************************/
 package io.xlate.inject;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanAttributes;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
+import jakarta.enterprise.inject.spi.DeploymentException;
 import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ProcessBeanAttributes;
+import jakarta.enterprise.inject.spi.ProcessInjectionPoint;
+import jakarta.enterprise.util.TypeLiteral;
 
 public class PropertyInjectionExtension implements Extension {
 
     private static final Logger logger = Logger.getLogger(PropertyInjectionExtension.class.getName());
+    private static final Type CONVERTER_TYPE = new TypeLiteral<PropertyConverter<?>>() {
+        private static final long serialVersionUID = 1L;
+    }.getType();
+
+    private final PropertyFactory factory = new PropertyFactory();
+    private final Queue<InjectionPoint> injectionPoints = new ConcurrentLinkedQueue<>();
+    private final Set<Type> propertyTypes = ConcurrentHashMap.newKeySet();
+    private final Set<Type> converterTypes = ConcurrentHashMap.newKeySet();
+    private final Set<Type> producedPropertyTypes = ConcurrentHashMap.newKeySet();
+    private final Queue<ConverterBinding> converterBindings = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The converter used by a synthetic bean added for a {@link Property}
+     * type, resolved once while the container is validated.
+     */
+    static final class ConverterBinding {
+        final Type type;
+        volatile PropertyConverter<Object> converter;
+
+        ConverterBinding(Type type) {
+            this.type = type;
+        }
+    }
+
+    PropertyFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Take a new snapshot of the system properties that override injected
+     * values. Has no effect unless the
+     * {@code io.xlate.inject.systemProperties.snapshot} system property was
+     * set to {@code true} when the container started, in which case changes
+     * to the system properties are not seen until this method is called.
+     */
+    public void refreshSystemProperties() {
+        factory.refreshSystemProperties();
+    }
 
     void beforeBeanDiscovery(@Observes BeforeBeanDiscovery event, BeanManager beanManager) {
         final String method = "PropertyInjectionExtension.beforeBeanDiscovery()";
@@ -44,4 +106,216 @@ public class PropertyInjectionExtension implements Extension {
 
         logger.log(Level.FINER, () -> method + " added type: " + type.getName());
     }
+
+    <T, X> void processInjectionPoint(@Observes ProcessInjectionPoint<T, X> event) {
+        final String method = "PropertyInjectionExtension.processInjectionPoint()";
+        final InjectionPoint point = event.getInjectionPoint();
+
+        for (Annotation qualifier : point.getQualifiers()) {
+            Class<? extends Annotation> type = qualifier.annotationType();
+
+            if (type == Property.class || type == PropertyResource.class) {
+                if (type == Property.class) {
+                    propertyTypes.add(point.getType());
+                }
+                injectionPoints.add(point);
+                logger.log(Level.FINER, () -> method + " found injection point: " + point);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Record the types converted by converter beans and the types of beans
+     * already qualified with {@link Property}. Beans can not be resolved
+     * portably until the deployment is validated, so the types are collected
+     * as the beans are discovered.
+     */
+    <T> void processBeanAttributes(@Observes ProcessBeanAttributes<T> event) {
+        final String method = "PropertyInjectionExtension.processBeanAttributes()";
+        final BeanAttributes<T> attributes = event.getBeanAttributes();
+
+        for (Type type : attributes.getTypes()) {
+            Type targetType = PropertyConverterRegistry.getTargetType(type);
+
+            if (targetType != null) {
+                converterTypes.add(targetType);
+                logger.log(Level.FINER, () -> method + " found converter for type " + targetType + ": " + event.getAnnotated());
+                break;
+            }
+        }
+
+        for (Annotation qualifier : attributes.getQualifiers()) {
+            if (qualifier.annotationType() == Property.class) {
+                producedPropertyTypes.addAll(attributes.getTypes());
+                break;
+            }
+        }
+    }
+
+    void afterBeanDiscovery(@Observes AfterBeanDiscovery event) {
+        final String method = "PropertyInjectionExtension.afterBeanDiscovery()";
+        final PropertyConverterRegistry converters = factory.getConverters();
+
+        for (Type type : propertyTypes) {
+            if (PropertyConverterRegistry.isBuiltIn(type) || isPropertyValue(type)
+                    || producedPropertyTypes.contains(type)) {
+                // Resolved by a producer method of this library or the application
+                continue;
+            }
+
+            if (converters.isSupported(type) || converterTypes.contains(type)) {
+                final ConverterBinding binding = new ConverterBinding(type);
+                converterBindings.add(binding);
+
+                event.addBean()
+                     .beanClass(PropertyProducerBean.class)
+                     .types(type, Object.class)
+                     .qualifiers(Property.Literal.INSTANCE, Any.Literal.INSTANCE)
+                     .scope(Dependent.class)
+                     .produceWith(instance -> produce(instance, binding));
+
+                logger.log(Level.FINER, () -> method + " added property bean for type: " + type);
+            }
+        }
+
+        propertyTypes.clear();
+        producedPropertyTypes.clear();
+        converterTypes.clear();
+    }
+
+    static boolean isPropertyValue(Type type) {
+        return type == PropertyValue.class
+                || type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == PropertyValue.class;
+    }
+
+    Object produce(Instance<Object> instance, ConverterBinding binding) {
+        final InjectionPoint point = instance.select(InjectionPoint.class).get();
+
+        try {
+            final InjectionPlan plan = factory.getInjectionPlan(point);
+            final String value = factory.getProperty(plan, instance.select(PropertyFileProvider.class));
+
+            if (value != null) {
+                return factory.convert(plan, value, binding.converter);
+            }
+
+            return null;
+        } catch (Exception e) {
+            throw new InjectionException(e);
+        }
+    }
+
+    void afterDeploymentValidation(@Observes AfterDeploymentValidation event, BeanManager beanManager) {
+        final String method = "PropertyInjectionExtension.afterDeploymentValidation()";
+
+        registerConverters(event, beanManager);
+
+        /*
+         * Remote resources are always fetched up front and in parallel, so
+         * that neither the validation below nor a request thread waits on
+         * them one at a time.
+         */
+        preloadResources(beanManager, !PropertyInjectionOptions.isPreloadEnabled());
+
+        logger.log(Level.FINER, () -> method + " validating " + injectionPoints.size() + " injection point(s)");
+
+        for (InjectionPoint point : injectionPoints) {
+            /*
+             * Resolving the reference runs the producer for the injection
+             * point, loading its resource(s) into the shared cache and
+             * converting the value exactly as a bean instantiation would.
+             */
+            CreationalContext<?> context = beanManager.createCreationalContext(null);
+
+            try {
+                beanManager.getInjectableReference(point, context);
+            } catch (Exception e) {
+                event.addDeploymentProblem(new DeploymentException("Unable to resolve injection point " + point, e));
+            } finally {
+                context.release();
+            }
+        }
+
+        injectionPoints.clear();
+    }
+
+    void registerConverters(AfterDeploymentValidation event, BeanManager beanManager) {
+        final String method = "PropertyInjectionExtension.registerConverters()";
+        final PropertyConverterRegistry converters = factory.getConverters();
+
+        for (Bean<?> bean : beanManager.getBeans(CONVERTER_TYPE, Any.Literal.INSTANCE)) {
+            for (Type beanType : bean.getTypes()) {
+                Type type = PropertyConverterRegistry.getTargetType(beanType);
+
+                if (type != null) {
+                    Object reference = beanManager.getReference(bean, beanType, beanManager.createCreationalContext(bean));
+
+                    if (converters.register(type, (PropertyConverter<?>) reference)) {
+                        logger.log(Level.FINER, () -> method + " registered converter for type " + type + ": " + bean);
+                    }
+                    break;
+                }
+            }
+        }
+
+        for (ConverterBinding binding : converterBindings) {
+            binding.converter = converters.forType(binding.type);
+
+            if (binding.converter == null) {
+                event.addDeploymentProblem(new DeploymentException("No converter available for property type " + binding.type));
+            }
+        }
+
+        converterBindings.clear();
+    }
+
+    void beforeShutdown(@Observes BeforeShutdown event) {
+        factory.close();
+    }
+
+    void preloadResources(BeanManager beanManager, boolean remoteOnly) {
+        final String method = "PropertyInjectionExtension.preloadResources()";
+        final Set<ResourceHandle> resources = new LinkedHashSet<>();
+
+        for (InjectionPoint point : injectionPoints) {
+            addResource(resources, point);
+        }
+
+        try {
+            Instance<PropertyFileProvider> provider = beanManager.createInstance().select(PropertyFileProvider.class);
+            GlobalProperties global = factory.getGlobalProperties(provider);
+
+            if (global != null) {
+                resources.addAll(Arrays.asList(global.getLayers()));
+            }
+        } catch (Exception e) {
+            logger.log(Level.FINE, e, () -> method + " invalid global location");
+        }
+
+        if (remoteOnly) {
+            resources.removeIf(resource -> !resource.isRemote());
+        }
+
+        final long start = System.nanoTime();
+        factory.loadAll(resources, PropertyInjectionOptions.getPreloadThreads());
+
+        logger.log(Level.FINER, () -> method + " loaded " + resources.size() + " resource(s) in "
+                + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    void addResource(Set<ResourceHandle> resources, InjectionPoint point) {
+        try {
+            if (point.getAnnotated().isAnnotationPresent(PropertyResource.class)) {
+                PropertyResource annotation = point.getAnnotated().getAnnotation(PropertyResource.class);
+                Class<?> beanType = point.getMember().getDeclaringClass();
+                resources.add(factory.getResourceHandle(annotation, beanType));
+            } else {
+                resources.add(factory.getInjectionPlan(point).getResource());
+            }
+        } catch (Exception e) {
+            // Reported with the other problems once the injection point is validated
+            logger.log(Level.FINE, e, () -> "Unable to determine resource for injection point " + point);
+        }
+    }
 }
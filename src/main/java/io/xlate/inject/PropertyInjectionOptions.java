@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.nio.file.Path;
+
+/**
+ * Opt-in behaviors of the property injection extension, configured using
+ * system properties.
+ */
+final class PropertyInjectionOptions {
+
+    static final String PREFIX = "io.xlate.inject.";
+
+    /**
+     * Load all resources referenced by injection points (and the global
+     * property file) in parallel while the container starts.
+     */
+    static final String PRELOAD = PREFIX + "preload";
+
+    /**
+     * Maximum number of threads used to preload resources.
+     */
+    static final String PRELOAD_THREADS = PREFIX + "preload.threads";
+
+    /**
+     * Reload {@code file:} resources when they are modified.
+     */
+    static final String RELOAD = PREFIX + "reload";
+
+    /**
+     * Interval in milliseconds between checks for modified {@code file:}
+     * resources.
+     */
+    static final String RELOAD_INTERVAL = PREFIX + "reload.interval";
+
+    /**
+     * Read the system properties that override injected values from a
+     * snapshot taken when the container starts, rather than from
+     * {@link System#getProperties()} on every injection. The snapshot is
+     * replaced using {@link PropertyInjectionExtension#refreshSystemProperties()}.
+     */
+    static final String SYSTEM_SNAPSHOT = PREFIX + "systemProperties.snapshot";
+
+    /**
+     * Size in bytes from which {@code file:} resources in the properties
+     * format are indexed, decoding each value only when it is first read. An
+     * indexed file is copied to a temporary file that is mapped into memory,
+     * rather than read onto the heap. Disabled unless set.
+     */
+    static final String INDEXED_THRESHOLD = PREFIX + "indexed.threshold";
+
+    /**
+     * Directory holding the local copies of {@code http:} and {@code https:}
+     * resources. The copies are used when the server can not be reached, so
+     * the directory must be writable only by the user running the
+     * application. Remote resources are downloaded in full without keeping a
+     * copy unless set.
+     */
+    static final String REMOTE_CACHE = PREFIX + "remote.cache";
+
+    /**
+     * Timeout in milliseconds to connect to the server of a remote resource.
+     */
+    static final String REMOTE_CONNECT_TIMEOUT = PREFIX + "remote.connectTimeout";
+
+    /**
+     * Timeout in milliseconds for the response to a request for a remote
+     * resource.
+     */
+    static final String REMOTE_REQUEST_TIMEOUT = PREFIX + "remote.requestTimeout";
+
+    /**
+     * Maximum number of remote resources fetched at the same time from a
+     * single host.
+     */
+    static final String REMOTE_MAX_FETCHES_PER_HOST = PREFIX + "remote.maxFetchesPerHost";
+
+    /**
+     * Interval in milliseconds between fetches of {@code http:} and
+     * {@code https:} resources to check for changes. Remote resources are not
+     * refreshed unless set.
+     */
+    static final String REMOTE_REFRESH = PREFIX + "remote.refresh";
+
+    /**
+     * Percentage by which each refresh interval is randomly shortened or
+     * lengthened.
+     */
+    static final String REMOTE_REFRESH_JITTER = PREFIX + "remote.refresh.jitter";
+
+    private PropertyInjectionOptions() {
+    }
+
+    static boolean isPreloadEnabled() {
+        return Boolean.getBoolean(PRELOAD);
+    }
+
+    static int getPreloadThreads() {
+        return Math.max(1, Integer.getInteger(PRELOAD_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    static boolean isReloadEnabled() {
+        return Boolean.getBoolean(RELOAD);
+    }
+
+    static long getReloadInterval() {
+        return Math.max(10L, Long.getLong(RELOAD_INTERVAL, 1000L));
+    }
+
+    static boolean isSystemSnapshotEnabled() {
+        return Boolean.getBoolean(SYSTEM_SNAPSHOT);
+    }
+
+    static long getIndexedThreshold() {
+        return Long.getLong(INDEXED_THRESHOLD, -1L);
+    }
+
+    static Path getRemoteCacheDirectory() {
+        final String directory = System.getProperty(REMOTE_CACHE, "");
+        return directory.isEmpty() ? null : Path.of(directory);
+    }
+
+    static long getRemoteConnectTimeout() {
+        return Math.max(1L, Long.getLong(REMOTE_CONNECT_TIMEOUT, 5000L));
+    }
+
+    static long getRemoteRequestTimeout() {
+        return Math.max(1L, Long.getLong(REMOTE_REQUEST_TIMEOUT, 10000L));
+    }
+
+    static int getRemoteMaxFetchesPerHost() {
+        return Math.max(1, Integer.getInteger(REMOTE_MAX_FETCHES_PER_HOST, 4));
+    }
+
+    static long getRemoteRefreshInterval() {
+        return Long.getLong(REMOTE_REFRESH, 0L);
+    }
+
+    static int getRemoteRefreshJitter() {
+        return Math.max(0, Math.min(100, Integer.getInteger(REMOTE_REFRESH_JITTER, 10)));
+    }
+}
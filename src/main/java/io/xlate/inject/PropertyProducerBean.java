@@ -17,19 +17,13 @@
 package io.xlate.inject;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.net.URL;
-import java.text.DateFormat;
-import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.function.Function;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.InjectionException;
@@ -37,22 +31,50 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.inject.Inject;
-import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
-import jakarta.json.JsonStructure;
 
 @ApplicationScoped
 public class PropertyProducerBean {
 
-    private static final Logger logger = Logger.getLogger(PropertyProducerBean.class.getName());
-
-    private final PropertyFactory factory = new PropertyFactory();
+    private PropertyFactory factory;
+    private boolean privateFactory;
 
     @Inject
     private Instance<PropertyFileProvider> propertyFilenameProvider;
 
+    public PropertyProducerBean() {
+        // The factory is provided by setExtension
+    }
+
+    /**
+     * Create a producer using the given factory, without a container.
+     *
+     * @param factory the factory holding the resource cache, not closed by
+     *                the producer
+     */
+    PropertyProducerBean(PropertyFactory factory) {
+        this.factory = factory;
+    }
+
+    @Inject
+    void setExtension(Instance<PropertyInjectionExtension> extension) {
+        if (extension.isResolvable()) {
+            // Share the extension's resource cache with all producers in the deployment
+            factory = extension.get().getFactory();
+        } else {
+            factory = new PropertyFactory();
+            privateFactory = true;
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (privateFactory) {
+            factory.close();
+        }
+    }
+
     @Produces
     @Dependent
     @Property
@@ -68,178 +90,137 @@ public class PropertyProducerBean {
     @Dependent
     @Property
     public Boolean produceBooleanProperty(InjectionPoint injectionPoint) {
-        return produceWrapped(injectionPoint, Boolean.TYPE, Boolean::valueOf, Boolean.FALSE);
+        return produceWrapped(injectionPoint, Boolean.TYPE, PropertyConverters.BOOLEAN, Boolean.FALSE);
     }
 
     @Produces
     @Dependent
     @Property
     public Integer produceIntegerProperty(InjectionPoint injectionPoint) {
-        return produceWrapped(injectionPoint, Integer.TYPE, Integer::valueOf, Integer.valueOf(0));
+        return produceWrapped(injectionPoint, Integer.TYPE, PropertyConverters.INTEGER, Integer.valueOf(0));
     }
 
     @Produces
     @Dependent
     @Property
     public Long produceLongProperty(InjectionPoint injectionPoint) {
-        return produceWrapped(injectionPoint, Long.TYPE, Long::valueOf, Long.valueOf(0L));
+        return produceWrapped(injectionPoint, Long.TYPE, PropertyConverters.LONG, Long.valueOf(0L));
     }
 
     @Produces
     @Dependent
     @Property
     public Float produceFloatProperty(InjectionPoint injectionPoint) {
-        return produceWrapped(injectionPoint, Float.TYPE, Float::valueOf, Float.valueOf(0f));
+        return produceWrapped(injectionPoint, Float.TYPE, PropertyConverters.FLOAT, Float.valueOf(0f));
     }
 
     @Produces
     @Dependent
     @Property
     public Double produceDoubleProperty(InjectionPoint injectionPoint) {
-        return produceWrapped(injectionPoint, Double.TYPE, Double::valueOf, Double.valueOf(0d));
+        return produceWrapped(injectionPoint, Double.TYPE, PropertyConverters.DOUBLE, Double.valueOf(0d));
     }
 
     @Produces
     @Dependent
     @Property
     public BigInteger produceBigIntegerProperty(InjectionPoint injectionPoint) {
-        try {
-            final BigDecimal value = produceBigDecimalProperty(injectionPoint);
-
-            if (value != null) {
-                return value.toBigInteger();
-            }
-        } catch (Exception e) {
-            throw new InjectionException(e);
-        }
-
-        return null;
+        return produce(injectionPoint, PropertyConverters.BIG_INTEGER);
     }
 
     @Produces
     @Dependent
     @Property
     public BigDecimal produceBigDecimalProperty(InjectionPoint injectionPoint) {
-        try {
-            final String value = getProperty(injectionPoint);
-            final BigDecimal number;
-
-            if (value != null) {
-                final Property annotation = injectionPoint.getAnnotated().getAnnotation(Property.class);
-                final String pattern = annotation.pattern();
-
-                if (pattern.isEmpty()) {
-                    number = new BigDecimal(value);
-                } else {
-                    logger.log(Level.FINER, () -> "Parsing number with using pattern [" + pattern + ']');
-                    DecimalFormat format = new DecimalFormat(pattern);
-                    format.setParseBigDecimal(true);
-                    number = (BigDecimal) format.parse(value);
-                }
-            } else {
-                number = null;
-            }
-            return number;
-        } catch (Exception e) {
-            throw new InjectionException(e);
-        }
+        return produce(injectionPoint, PropertyConverters.BIG_DECIMAL);
     }
 
     @Produces
     @Dependent
     @Property
     public Date produceDateProperty(InjectionPoint injectionPoint) {
-        try {
-            final String value = getProperty(injectionPoint);
-            final Date date;
-
-            if (value != null) {
-                final Property annotation = injectionPoint.getAnnotated().getAnnotation(Property.class);
-                final String pattern = annotation.pattern();
-                DateFormat format = new SimpleDateFormat(pattern.isEmpty() ? "yyyy-MM-dd'T'HH:mm:ss.SSSZ" : pattern);
-                date = format.parse(value);
-            } else {
-                date = null;
-            }
-            return date;
-        } catch (Exception e) {
-            throw new InjectionException(e);
-        }
+        return produce(injectionPoint, PropertyConverters.DATE);
     }
 
     @Produces
     @Dependent
     @Property
     public JsonArray produceJsonArrayProperty(InjectionPoint injectionPoint) {
-        return produceJson(injectionPoint, JsonReader::readArray);
+        return produce(injectionPoint, PropertyConverters.JsonConverters.JSON_ARRAY);
     }
 
     @Produces
     @Dependent
     @Property
     public JsonObject produceJsonObjectProperty(InjectionPoint injectionPoint) {
-        return produceJson(injectionPoint, JsonReader::readObject);
+        return produce(injectionPoint, PropertyConverters.JsonConverters.JSON_OBJECT);
     }
 
-    private <T> T produceWrapped(InjectionPoint injectionPoint, Class<T> type, Function<String, T> parser, T defaultValue) {
-        try {
-            final String value = getProperty(injectionPoint);
+    @Produces
+    @Dependent
+    @Property
+    public <T> PropertyValue<T> producePropertyValue(InjectionPoint injectionPoint) {
+        final Type injectionType = injectionPoint.getType();
+        final Type valueType;
+
+        if (injectionType instanceof ParameterizedType) {
+            valueType = ((ParameterizedType) injectionType).getActualTypeArguments()[0];
+        } else {
+            valueType = String.class;
+        }
 
-            if (value != null) {
-                return parser.apply(value);
-            }
+        final PropertyConverter<T> converter = factory.getConverters().forType(valueType);
 
-            final Type injectionType = injectionPoint.getType();
-            return injectionType.equals(type) ? defaultValue : null;
-        } catch (Exception e) {
-            throw new InjectionException(e);
+        if (converter == null) {
+            throw new InjectionException("Unsupported property value type: " + valueType);
         }
-    }
 
-    private <T extends JsonStructure> T produceJson(InjectionPoint injectionPoint, Function<JsonReader, T> jsonSupplier) {
         try {
-            final String value = getProperty(injectionPoint);
-            if (value != null) {
-                try (JsonReader reader = Json.createReader(new StringReader(value))) {
-                    return jsonSupplier.apply(reader);
-                }
-            }
-            return null;
+            final DynamicPropertyValue<T> value = new DynamicPropertyValue<>(factory,
+                                                                             factory.getInjectionPlan(injectionPoint),
+                                                                             converter,
+                                                                             propertyFilenameProvider);
+            // Resolve once to report invalid values at injection time
+            value.get();
+            return value;
+        } catch (InjectionException e) {
+            throw e;
         } catch (Exception e) {
             throw new InjectionException(e);
         }
     }
 
-    String getProperty(InjectionPoint point) throws IOException {
-        final Property annotation = point.getAnnotated().getAnnotation(Property.class);
-        final Class<?> beanType = point.getMember().getDeclaringClass();
-        final String propertyName = factory.getPropertyName(point, annotation.name());
-        final String defaultValue = annotation.defaultValue();
-
-        final String systemProperty = factory.getSystemProperty(beanType,
-                                                                annotation.systemProperty(),
-                                                                propertyName);
+    private <T> T produceWrapped(InjectionPoint injectionPoint, Class<T> type, PropertyConverter<T> converter, T defaultValue) {
+        final T value = produce(injectionPoint, converter);
 
-        if (systemProperty != null) {
-            return systemProperty;
+        if (value != null) {
+            return value;
         }
 
-        final boolean hasGlobalFile = propertyFilenameProvider != null && propertyFilenameProvider.isResolvable();
+        final Type injectionType = injectionPoint.getType();
+        return injectionType.equals(type) ? defaultValue : null;
+    }
 
-        final PropertyResource resource = annotation.resource();
-        String value;
-        URL resourceUrl = factory.getResourceUrl(resource, beanType);
-        value = factory.getProperty(resourceUrl, resource.format(), hasGlobalFile || resource.allowMissingResource(), propertyName, defaultValue);
+    private <T> T produce(InjectionPoint injectionPoint, PropertyConverter<T> converter) {
+        try {
+            final InjectionPlan plan = factory.getInjectionPlan(injectionPoint);
+            final String value = getProperty(plan);
 
-        if (value != null && annotation.resolveEnvironment()) {
-            return factory.replaceEnvironmentReferences(value);
-        }
+            if (value != null) {
+                return factory.convert(plan, value, converter);
+            }
 
-        if (value == null && hasGlobalFile){
-            resourceUrl = factory.getResourceUrl(propertyFilenameProvider.get().getLocation());
-            value = factory.getProperty(resourceUrl, resource.format(), resource.allowMissingResource(), propertyName, defaultValue);
+            return null;
+        } catch (Exception e) {
+            throw new InjectionException(e);
         }
+    }
+
+    String getProperty(InjectionPoint point) throws IOException {
+        return getProperty(factory.getInjectionPlan(point));
+    }
 
-        return value;
+    String getProperty(InjectionPlan plan) throws IOException {
+        return factory.getProperty(plan, propertyFilenameProvider);
     }
 }
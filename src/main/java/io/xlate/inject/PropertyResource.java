@@ -23,6 +23,7 @@ import java.lang.annotation.Target;
 import java.util.Properties;
 
 import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.util.AnnotationLiteral;
 import jakarta.enterprise.util.Nonbinding;
 import jakarta.inject.Qualifier;
 
@@ -52,6 +53,18 @@ public @interface PropertyResource {
     @Nonbinding
     public PropertyResourceFormat format() default PropertyResourceFormat.PROPERTIES;
 
+    /**
+     * The name of the character set used to decode a resource in the
+     * {@link PropertyResourceFormat#PROPERTIES PROPERTIES} format, e.g.
+     * <code>UTF-8</code>. The default is ISO-8859-1, the encoding used by
+     * {@link Properties#load(java.io.InputStream)}. Resources in the XML
+     * format declare their own encoding and ignore this value.
+     *
+     * @return the name of the character set of the resource
+     */
+    @Nonbinding
+    public String charset() default "ISO-8859-1";
+
     /**
      * Value to indicate whether the property injection processor should replace
      * environment references in properties with the value provided by
@@ -86,4 +99,46 @@ public @interface PropertyResource {
      */
     @Nonbinding
     public boolean allowMissingResource() default false;
+
+    /**
+     * Supports inline instantiation of the {@link PropertyResource} qualifier.
+     */
+    public static final class Literal extends AnnotationLiteral<PropertyResource> implements PropertyResource {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * A {@link PropertyResource} literal with all members set to their
+         * default values.
+         */
+        public static final Literal INSTANCE = new Literal();
+
+        private Literal() {
+        }
+
+        @Override
+        public String value() {
+            return "";
+        }
+
+        @Override
+        public PropertyResourceFormat format() {
+            return PropertyResourceFormat.PROPERTIES;
+        }
+
+        @Override
+        public String charset() {
+            return "ISO-8859-1";
+        }
+
+        @Override
+        public boolean resolveEnvironment() {
+            return false;
+        }
+
+        @Override
+        public boolean allowMissingResource() {
+            return false;
+        }
+    }
 }
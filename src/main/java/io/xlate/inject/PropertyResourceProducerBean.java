@@ -16,10 +16,10 @@
  ******************************************************************************/
 package io.xlate.inject;
 
-import java.net.URL;
+import java.util.Map;
 import java.util.Properties;
-import java.util.logging.Logger;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.InjectionException;
@@ -32,13 +32,43 @@ import jakarta.inject.Inject;
 @ApplicationScoped
 public class PropertyResourceProducerBean {
 
-    @SuppressWarnings("unused")
-    private static final Logger logger = Logger.getLogger(PropertyResourceProducerBean.class.getName());
-
-    private final PropertyFactory factory = new PropertyFactory();
+    private PropertyFactory factory;
+    private boolean privateFactory;
 
     @Inject
     private Instance<PropertyFileProvider> propertyFilenameProvider;
+
+    public PropertyResourceProducerBean() {
+        // The factory is provided by setExtension
+    }
+
+    /**
+     * Create a producer using the given factory, without a container.
+     *
+     * @param factory the factory holding the resource cache, not closed by
+     *                the producer
+     */
+    PropertyResourceProducerBean(PropertyFactory factory) {
+        this.factory = factory;
+    }
+
+    @Inject
+    void setExtension(Instance<PropertyInjectionExtension> extension) {
+        if (extension.isResolvable()) {
+            // Share the extension's resource cache with all producers in the deployment
+            factory = extension.get().getFactory();
+        } else {
+            factory = new PropertyFactory();
+            privateFactory = true;
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (privateFactory) {
+            factory.close();
+        }
+    }
     
     @Produces
     @Dependent
@@ -52,23 +82,49 @@ public class PropertyResourceProducerBean {
 
         final Class<?> beanType = point.getMember().getDeclaringClass();
         final PropertyResource annotation = annotated.getAnnotation(PropertyResource.class);
-        final PropertyResourceFormat format = annotation.format();
 
         Properties p = new Properties();
         try {
-            URL resourceUrl = null;
-            boolean hasGlobalPropertyFile =propertyFilenameProvider != null && propertyFilenameProvider.isResolvable();
+            GlobalProperties globalFile = factory.getGlobalProperties(propertyFilenameProvider);
+            boolean hasGlobalPropertyFile = globalFile != null;
             if (hasGlobalPropertyFile) {
-                String globalFile = propertyFilenameProvider.get().getLocation();
-                resourceUrl = factory.getResourceUrl(globalFile);
-                p.putAll(factory.getProperties(resourceUrl, format, annotation.allowMissingResource()));
+                p.putAll(globalFile.getProperties(annotation.allowMissingResource()));
             }
-            resourceUrl = factory.getResourceUrl(annotation, beanType);
-            p.putAll(factory.getProperties(resourceUrl, format, hasGlobalPropertyFile || annotation.allowMissingResource()));
+            ResourceHandle resource = factory.getResourceHandle(annotation, beanType);
+            p.putAll(resource.getProperties(hasGlobalPropertyFile || annotation.allowMissingResource()));
             return p;
         } catch (Exception e) {
             throw new InjectionException(e);
         }
     }
 
+    /**
+     * Produce a read-only view of the resource's properties overlaid on the
+     * global properties. Unlike {@link #produceProperties(InjectionPoint)},
+     * the view is backed by the cached tables and nothing is copied, so
+     * the cost of the injection does not depend on the size of the resource.
+     *
+     * @param point the injection point
+     * @return an unmodifiable map of the properties
+     */
+    @Produces
+    @Dependent
+    @PropertyResource
+    public Map<String, String> producePropertyMap(InjectionPoint point) {
+        final Class<?> beanType = point.getMember().getDeclaringClass();
+        final PropertyResource annotation = point.getAnnotated().getAnnotation(PropertyResource.class);
+
+        try {
+            GlobalProperties globalFile = factory.getGlobalProperties(propertyFilenameProvider);
+            PropertyTable global = null;
+            if (globalFile != null) {
+                global = globalFile.getTable(annotation.allowMissingResource());
+            }
+            ResourceHandle resource = factory.getResourceHandle(annotation, beanType);
+            return new LayeredPropertyMap(resource.getTable(global != null || annotation.allowMissingResource()), global);
+        } catch (Exception e) {
+            throw new InjectionException(e);
+        }
+    }
+
 }
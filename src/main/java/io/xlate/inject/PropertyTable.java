@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Immutable, open-addressed map of property names to values. The entries are
+ * stored in flat arrays together with the hash of each name, built once when
+ * a resource is loaded. Reads take no locks and allocate nothing.
+ */
+class PropertyTable extends AbstractMap<String, String> {
+
+    static final PropertyTable EMPTY = new PropertyTable(Map.of());
+
+    private final String[] keys;
+    private final String[] values;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    /**
+     * Copy the entries of the source having a string name and value.
+     */
+    PropertyTable(Map<?, ?> source) {
+        this(entries(source));
+    }
+
+    private PropertyTable(String[] entries) {
+        this(entries, entries.length / 2);
+    }
+
+    /**
+     * Copy the given name and value pairs, later values of a name replacing
+     * earlier ones.
+     *
+     * @param entries the names and values, alternating
+     * @param count   the number of pairs in entries
+     */
+    PropertyTable(String[] entries, int count) {
+        // Power of two capacity with a load factor of at most 0.5
+        final int capacity = Integer.highestOneBit(Math.max(2, count) * 4 - 1);
+        keys = new String[capacity];
+        values = new String[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+
+        int unique = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (insert(entries[i * 2], entries[i * 2 + 1])) {
+                unique++;
+            }
+        }
+
+        size = unique;
+    }
+
+    private static String[] entries(Map<?, ?> source) {
+        String[] entries = new String[source.size() * 2];
+        int i = 0;
+
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            if (entry.getKey() instanceof String && entry.getValue() instanceof String) {
+                if (i == entries.length) {
+                    // The source was modified while being copied
+                    entries = Arrays.copyOf(entries, i * 2 + 2);
+                }
+                entries[i++] = (String) entry.getKey();
+                entries[i++] = (String) entry.getValue();
+            }
+        }
+
+        return i == entries.length ? entries : Arrays.copyOf(entries, i);
+    }
+
+    static PropertyTable of(Properties properties) {
+        return properties.isEmpty() ? EMPTY : new PropertyTable(properties);
+    }
+
+    static int hash(Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private boolean insert(String key, String value) {
+        final int hash = hash(key);
+        int i = hash & mask;
+
+        while (keys[i] != null) {
+            if (hashes[i] == hash && keys[i].equals(key)) {
+                values[i] = value;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        hashes[i] = hash;
+        return true;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        final int hash = hash(key);
+        int i = hash & mask;
+        String candidate;
+
+        while ((candidate = keys[i]) != null) {
+            if (hashes[i] == hash && candidate.equals(key)) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a new, mutable {@code Properties} holding the entries of this
+     *         table
+     */
+    Properties toProperties() {
+        final Properties properties = new Properties();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                properties.put(keys[i], values[i]);
+            }
+        }
+
+        return properties;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> result = entrySet;
+
+        if (result == null) {
+            result = new AbstractSet<Map.Entry<String, String>>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+            entrySet = result;
+        }
+
+        return result;
+    }
+
+    class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private int index = nextSlot(0);
+
+        int nextSlot(int start) {
+            int i = start;
+
+            while (i < keys.length && keys[i] == null) {
+                i++;
+            }
+
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Map.Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+            index = nextSlot(index + 1);
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.function.Supplier;
+
+/**
+ * A handle to the current value of a property. Unlike a plain
+ * {@link Property @Property} injection, which captures the value once when
+ * the bean is created, a {@code PropertyValue} resolves the property each
+ * time {@link #get()} is called. This allows long-lived beans (e.g.
+ * {@code @ApplicationScoped}) to observe resources that are reloaded while
+ * the application is running.
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Property(name = "pool.size", defaultValue = "10")
+ * PropertyValue&lt;Integer&gt; poolSize;
+ * </pre>
+ *
+ * The converted value is cached and only converted again when the underlying
+ * property value changes. The type argument must be one of the types
+ * supported for {@link Property @Property} injection; {@link String} is used
+ * when the type argument is missing.
+ *
+ * @param <T> the type of the property value
+ */
+public interface PropertyValue<T> extends Supplier<T> {
+
+    /**
+     * Resolve the current value of the property.
+     *
+     * @return the current value of the property, or null when the property
+     *         is not found and has no default value
+     * @throws jakarta.enterprise.inject.InjectionException when the value can
+     *         not be resolved or converted
+     */
+    @Override
+    T get();
+
+}
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Local copies of {@code http:} and {@code https:} resources. Each resource
+ * is stored in the cache directory together with the {@code ETag} and
+ * {@code Last-Modified} values of the response, which are sent with the next
+ * request so that an unchanged resource is not downloaded again. When the
+ * server can not be reached or fails to respond, the last copy received is
+ * used instead.
+ *
+ * <p>
+ * Resources are fetched asynchronously by a shared {@link HttpClient},
+ * reusing HTTP/2 connections where the server supports them, with at most a
+ * fixed number of fetches in progress for each host.
+ */
+class RemoteResourceCache {
+
+    private static final Logger logger = Logger.getLogger(RemoteResourceCache.class.getName());
+
+    static final String ETAG = "ETag";
+    static final String LAST_MODIFIED = "Last-Modified";
+
+    private final Path directory;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final int maxFetchesPerHost;
+    private final ConcurrentMap<String, HostLimiter> limiters = new ConcurrentHashMap<>();
+    private volatile HttpClient client;
+
+    /**
+     * @param directory the directory holding the local copies, or null to
+     *                  download every resource in full without keeping a
+     *                  copy
+     */
+    RemoteResourceCache(Path directory) {
+        this(directory,
+             Duration.ofMillis(PropertyInjectionOptions.getRemoteConnectTimeout()),
+             Duration.ofMillis(PropertyInjectionOptions.getRemoteRequestTimeout()),
+             PropertyInjectionOptions.getRemoteMaxFetchesPerHost());
+    }
+
+    RemoteResourceCache(Path directory, Duration connectTimeout, Duration requestTimeout, int maxFetchesPerHost) {
+        this.directory = directory;
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.maxFetchesPerHost = maxFetchesPerHost;
+    }
+
+    /**
+     * Limits the number of fetches in progress for a single host. Fetches
+     * beyond the limit are queued and started as earlier ones complete,
+     * without blocking the caller.
+     */
+    static final class HostLimiter {
+        private final int limit;
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+        private int active;
+
+        HostLimiter(int limit) {
+            this.limit = limit;
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            final Runnable start = () -> {
+                try {
+                    task.get().whenComplete((value, error) -> {
+                        release();
+
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(value);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    release();
+                    result.completeExceptionally(e);
+                }
+            };
+
+            final boolean available;
+
+            synchronized (this) {
+                available = active < limit;
+
+                if (available) {
+                    active++;
+                } else {
+                    pending.add(start);
+                }
+            }
+
+            if (available) {
+                start.run();
+            }
+
+            return result;
+        }
+
+        void release() {
+            final Runnable next;
+
+            synchronized (this) {
+                next = pending.poll();
+
+                if (next == null) {
+                    active--;
+                }
+            }
+
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+
+    static boolean isRemote(URL url) {
+        final String protocol = url.getProtocol();
+        return "http".equals(protocol) || "https".equals(protocol);
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    HttpClient getClient() {
+        HttpClient result = client;
+
+        if (result == null) {
+            synchronized (this) {
+                result = client;
+
+                if (result == null) {
+                    result = HttpClient.newBuilder()
+                                       .version(HttpClient.Version.HTTP_2)
+                                       .followRedirects(HttpClient.Redirect.NORMAL)
+                                       .connectTimeout(connectTimeout)
+                                       .build();
+                    client = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            throw asIOException(e.getCause());
+        }
+    }
+
+    static IOException asIOException(Throwable error) {
+        Throwable cause = error;
+
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+
+    /**
+     * Fetch the current contents of the resource, from the server or from the
+     * local copy when the server reports that it is unchanged or can not be
+     * reached. The future fails with a {@link FileNotFoundException} when the
+     * server reports that the resource does not exist.
+     */
+    CompletableFuture<byte[]> fetch(URL url) {
+        return fetch(url, true);
+    }
+
+    /**
+     * @param useLocalCopy whether to use the local copy when the server can
+     *                     not be reached or fails to respond, rather than
+     *                     failing the future
+     */
+    CompletableFuture<byte[]> fetch(URL url, boolean useLocalCopy) {
+        final HostLimiter limiter = limiters.computeIfAbsent(url.getAuthority(), host -> new HostLimiter(maxFetchesPerHost));
+        return limiter.submit(() -> send(url, useLocalCopy));
+    }
+
+    CompletableFuture<byte[]> send(URL url, boolean useLocalCopy) {
+        final String method = "RemoteResourceCache.send()";
+        final Path content;
+        final Path validators;
+        final HttpRequest.Builder request;
+
+        try {
+            request = HttpRequest.newBuilder(url.toURI()).timeout(requestTimeout).GET();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new IOException("Invalid remote resource URL: " + url, e));
+        }
+
+        if (directory != null) {
+            final String name = getCacheName(url);
+            content = directory.resolve(name + ".properties");
+            validators = directory.resolve(name + ".validators");
+        } else {
+            content = null;
+            validators = null;
+        }
+
+        final boolean cached = content != null && Files.isRegularFile(content);
+
+        if (cached) {
+            try {
+                setValidators(request, validators);
+            } catch (IOException e) {
+                logger.log(Level.FINE, e, () -> method + " ignoring unreadable validators: " + validators);
+            }
+        }
+
+        return getClient().sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray()).handle((response, error) -> {
+            try {
+                if (error != null) {
+                    throw asIOException(error);
+                }
+
+                final int status = response.statusCode();
+
+                if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached) {
+                    logger.log(Level.FINER, () -> method + " not modified: " + url);
+                    return Files.readAllBytes(content);
+                }
+
+                if (status == HttpURLConnection.HTTP_NOT_FOUND || status == HttpURLConnection.HTTP_GONE) {
+                    throw new FileNotFoundException(url.toString());
+                }
+
+                if (status != HttpURLConnection.HTTP_OK) {
+                    throw new IOException("Unexpected response status " + status + " for " + url);
+                }
+
+                logger.log(Level.FINER, () -> method + " downloaded: " + url);
+
+                if (content != null) {
+                    try {
+                        store(response, content, validators);
+                    } catch (IOException e) {
+                        // The download is still good, only the next request can not be conditional
+                        logger.log(Level.WARNING, e, () -> "Unable to store the local copy of resource: " + url);
+                    }
+                }
+
+                return response.body();
+            } catch (FileNotFoundException e) {
+                throw new UncheckedIOException(e);
+            } catch (IOException e) {
+                return fallback(url, content, cached && useLocalCopy, e);
+            }
+        });
+    }
+
+    static byte[] fallback(URL url, Path content, boolean cached, IOException error) {
+        if (!cached) {
+            throw new UncheckedIOException(error);
+        }
+
+        logger.log(Level.WARNING, error, () -> "Unable to fetch resource, using the local copy: " + url);
+
+        try {
+            return Files.readAllBytes(content);
+        } catch (IOException e) {
+            e.addSuppressed(error);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void setValidators(HttpRequest.Builder request, Path validators) throws IOException {
+        if (!Files.isRegularFile(validators)) {
+            return;
+        }
+
+        final Properties values = new Properties();
+
+        try (InputStream stream = Files.newInputStream(validators)) {
+            values.load(stream);
+        }
+
+        final String etag = values.getProperty(ETAG);
+        final String lastModified = values.getProperty(LAST_MODIFIED);
+
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+    }
+
+    /**
+     * Write the body and validators of the response to temporary files and
+     * move them into place, so that a failed write leaves the previous copy
+     * intact.
+     */
+    void store(HttpResponse<byte[]> response, Path content, Path validators) throws IOException {
+        Files.createDirectories(directory);
+
+        final Path contentTemp = Files.createTempFile(directory, content.getFileName().toString(), ".tmp");
+        final Path validatorsTemp = Files.createTempFile(directory, validators.getFileName().toString(), ".tmp");
+
+        try {
+            Files.write(contentTemp, response.body());
+
+            final Properties values = new Properties();
+            response.headers().firstValue(ETAG).ifPresent(etag -> values.setProperty(ETAG, etag));
+            response.headers().firstValue(LAST_MODIFIED).ifPresent(modified -> values.setProperty(LAST_MODIFIED, modified));
+
+            try (OutputStream stream = Files.newOutputStream(validatorsTemp)) {
+                values.store(stream, response.uri().toString());
+            }
+
+            move(contentTemp, content);
+            move(validatorsTemp, validators);
+        } finally {
+            Files.deleteIfExists(contentTemp);
+            Files.deleteIfExists(validatorsTemp);
+        }
+    }
+
+    static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static String getCacheName(URL url) {
+        final byte[] digest = digest(url.toString().getBytes(StandardCharsets.UTF_8));
+        final StringBuilder name = new StringBuilder(digest.length * 2);
+
+        for (byte b : digest) {
+            name.append(Character.forDigit((b >> 4) & 0xF, 16));
+            name.append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return name.toString();
+    }
+
+    static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
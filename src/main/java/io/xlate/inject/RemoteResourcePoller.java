@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fetches {@code http:} and {@code https:} resources again at a fixed
+ * interval, publishing a new snapshot of a resource when its content has
+ * changed. Each delay is varied randomly by up to the jitter percentage so
+ * that many nodes started together do not poll the server together, and is
+ * doubled after each consecutive failure, up to {@value #MAX_BACKOFF} times
+ * the interval.
+ */
+class RemoteResourcePoller implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(RemoteResourcePoller.class.getName());
+
+    static final int MAX_BACKOFF = 32;
+
+    private final long interval;
+    private final int jitter;
+    private final Set<ResourceHandle> polled = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param interval the interval between fetches of a resource, in
+     *                 milliseconds
+     * @param jitter   the percentage of each delay by which it is randomly
+     *                 shortened or lengthened
+     */
+    RemoteResourcePoller(long interval, int jitter) {
+        this.interval = interval;
+        this.jitter = jitter;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "property-inject-remote-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void poll(ResourceHandle resource) {
+        if (polled.add(resource)) {
+            schedule(resource, 0);
+        }
+    }
+
+    boolean isPolled(ResourceHandle resource) {
+        return polled.contains(resource);
+    }
+
+    long getDelay(int failures) {
+        final long base = interval * Math.min(1L << Math.min(failures, 30), MAX_BACKOFF);
+        final long spread = base * jitter / 100;
+
+        if (spread == 0) {
+            return base;
+        }
+
+        return base - spread + ThreadLocalRandom.current().nextLong(spread * 2 + 1);
+    }
+
+    void schedule(ResourceHandle resource, int failures) {
+        try {
+            scheduler.schedule(() -> refresh(resource, failures), getDelay(failures), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed
+            polled.remove(resource);
+        }
+    }
+
+    void refresh(ResourceHandle resource, int failures) {
+        final String method = "RemoteResourcePoller.refresh()";
+
+        if (!resource.isLoaded()) {
+            // Nothing to compare with until the resource is first used
+            schedule(resource, 0);
+            return;
+        }
+
+        resource.refresh().whenComplete((changed, error) -> {
+            if (error != null) {
+                logger.log(Level.WARNING, error, () -> "Failed to refresh resource, keeping previous contents: "
+                        + resource.getResourceUrl());
+                schedule(resource, failures + 1);
+            } else {
+                if (Boolean.TRUE.equals(changed)) {
+                    logger.log(Level.FINE, () -> method + " refreshed resource: " + resource.getResourceUrl());
+                }
+                schedule(resource, 0);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        polled.clear();
+    }
+}
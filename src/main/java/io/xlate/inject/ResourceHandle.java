@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache entry for a single properties resource. The resource is loaded at most
+ * once; concurrent callers wait for the in-flight load and afterwards read the
+ * published {@link ResourceSnapshot} without locking. A resource found to be
+ * missing by a caller that allows it is cached as an empty snapshot marked
+ * missing, so the lookup is not repeated and the warning is logged once.
+ */
+class ResourceHandle {
+
+    private static final Logger logger = Logger.getLogger(ResourceHandle.class.getName());
+
+    private final URL resourceUrl;
+    private final PropertyResourceFormat format;
+    private final Charset charset;
+    private final RemoteResourceCache remoteCache;
+    private volatile ResourceSnapshot snapshot;
+
+    /**
+     * The in-flight first load of a remote resource, shared by all callers
+     * until its snapshot is published. Guarded by this.
+     */
+    private CompletableFuture<ResourceSnapshot> pendingLoad;
+
+    ResourceHandle(URL resourceUrl, PropertyResourceFormat format) {
+        this(resourceUrl, format, StandardCharsets.ISO_8859_1);
+    }
+
+    ResourceHandle(URL resourceUrl, PropertyResourceFormat format, Charset charset) {
+        this(resourceUrl, format, charset, null);
+    }
+
+    ResourceHandle(URL resourceUrl, PropertyResourceFormat format, Charset charset, RemoteResourceCache remoteCache) {
+        this.resourceUrl = resourceUrl;
+        this.format = format;
+        this.charset = charset;
+        this.remoteCache = remoteCache;
+    }
+
+    URL getResourceUrl() {
+        return resourceUrl;
+    }
+
+    boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * @return the current snapshot, or null when the resource has not been
+     *         loaded
+     */
+    ResourceSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    ResourceSnapshot getSnapshot(boolean allowMissingResource) throws IOException {
+        ResourceSnapshot result = snapshot;
+
+        if (result == null && isRemote()) {
+            result = awaitRemote(allowMissingResource);
+        } else if (result == null) {
+            synchronized (this) {
+                result = snapshot;
+
+                if (result == null) {
+                    result = load(allowMissingResource);
+                    snapshot = result;
+                }
+            }
+        }
+
+        if (result.isMissing() && !allowMissingResource) {
+            throw new FileNotFoundException(resourceUrl.toString());
+        }
+
+        return result;
+    }
+
+    Properties getProperties(boolean allowMissingResource) throws IOException {
+        return getSnapshot(allowMissingResource).getProperties();
+    }
+
+    PropertyTable getTable(boolean allowMissingResource) throws IOException {
+        return getSnapshot(allowMissingResource).getTable();
+    }
+
+    /**
+     * Wait for the first load of a remote resource without holding the monitor
+     * of this handle, so that a slow server does not block other threads that
+     * only need to publish or read a snapshot.
+     */
+    ResourceSnapshot awaitRemote(boolean allowMissingResource) throws IOException {
+        try {
+            return RemoteResourceCache.await(loadAsync());
+        } catch (FileNotFoundException e) {
+            if (allowMissingResource) {
+                logger.log(Level.WARNING, e, () -> "Resource not found: " + resourceUrl);
+                return publish(new ResourceSnapshot(PropertyTable.EMPTY, true));
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Load the resource again and replace the cached properties once the new
+     * contents have been read completely. Readers continue to see the previous
+     * properties until then, and keep them when the load fails.
+     */
+    void reload() throws IOException {
+        snapshot = load(false);
+    }
+
+    ResourceSnapshot load(boolean allowMissingResource) throws IOException {
+        final Path indexable = getIndexableFile();
+
+        if (indexable != null) {
+            return new ResourceSnapshot(IndexedPropertyTable.read(indexable, charset));
+        }
+
+        try {
+            if (isRemote()) {
+                final byte[] content = RemoteResourceCache.await(remoteCache.fetch(resourceUrl));
+                return readRemote(content, RemoteResourceCache.digest(content));
+            }
+
+            try (InputStream resourceStream = resourceUrl.openStream()) {
+                return read(resourceStream);
+            }
+        } catch (FileNotFoundException e) {
+            if (allowMissingResource) {
+                logger.log(Level.WARNING, e, () -> "Resource not found: " + resourceUrl);
+                return new ResourceSnapshot(PropertyTable.EMPTY, true);
+            }
+
+            throw e;
+        }
+    }
+
+    ResourceSnapshot read(InputStream resourceStream) throws IOException {
+        if (PropertyResourceFormat.XML == format) {
+            final Properties loaded = new Properties();
+            loaded.loadFromXML(resourceStream);
+            return new ResourceSnapshot(loaded);
+        }
+
+        return new ResourceSnapshot(PropertiesParser.parse(resourceStream, charset));
+    }
+
+    /**
+     * Read the content of a remote resource, keeping its digest with the
+     * snapshot so that a refresh can tell whether the content changed.
+     */
+    ResourceSnapshot readRemote(byte[] content, byte[] digest) {
+        try {
+            final ResourceSnapshot loaded = read(new ByteArrayInputStream(content));
+            loaded.setContentDigest(digest);
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    boolean isRemote() {
+        return remoteCache != null && RemoteResourceCache.isRemote(resourceUrl);
+    }
+
+    /**
+     * Load a remote resource without blocking the calling thread while it is
+     * fetched. Concurrent callers share a single fetch, and the snapshot is
+     * published unless another caller loaded the resource first.
+     */
+    CompletableFuture<ResourceSnapshot> loadAsync() {
+        final ResourceSnapshot current = snapshot;
+
+        if (current != null) {
+            return CompletableFuture.completedFuture(current);
+        }
+
+        synchronized (this) {
+            if (snapshot != null) {
+                return CompletableFuture.completedFuture(snapshot);
+            }
+
+            if (pendingLoad != null) {
+                return pendingLoad;
+            }
+
+            final CompletableFuture<ResourceSnapshot> load = remoteCache.fetch(resourceUrl)
+                    .thenApply(content -> publish(readRemote(content, RemoteResourceCache.digest(content))));
+            pendingLoad = load;
+            // A failed load is not retained, the next caller fetches again
+            load.whenComplete((loaded, error) -> clearPendingLoad(load));
+            return load;
+        }
+    }
+
+    synchronized ResourceSnapshot publish(ResourceSnapshot loaded) {
+        if (snapshot == null) {
+            snapshot = loaded;
+        }
+        return snapshot;
+    }
+
+    synchronized void clearPendingLoad(CompletableFuture<ResourceSnapshot> load) {
+        if (pendingLoad == load) {
+            pendingLoad = null;
+        }
+    }
+
+    /**
+     * Fetch a remote resource again, replacing the snapshot only when the
+     * content differs from that of the current snapshot. Readers continue to
+     * see the current snapshot until then, and keep it when the fetch fails.
+     *
+     * @return a future completed with true when a new snapshot was published,
+     *         or failed when the server could not provide the resource
+     */
+    CompletableFuture<Boolean> refresh() {
+        return remoteCache.fetch(resourceUrl, false).thenApply(content -> {
+            final byte[] digest = RemoteResourceCache.digest(content);
+            final ResourceSnapshot current = snapshot;
+
+            if (current != null && Arrays.equals(digest, current.getContentDigest())) {
+                return false;
+            }
+
+            snapshot = readRemote(content, digest);
+            return true;
+        });
+    }
+
+    /**
+     * @return the file of a {@code file:} resource in the properties format
+     *         that is at least as large as the
+     *         {@link PropertyInjectionOptions#INDEXED_THRESHOLD indexing
+     *         threshold}, otherwise null
+     */
+    Path getIndexableFile() throws IOException {
+        final long threshold = PropertyInjectionOptions.getIndexedThreshold();
+
+        if (threshold < 0
+                || format != PropertyResourceFormat.PROPERTIES
+                || !"file".equals(resourceUrl.getProtocol())
+                || !IndexedPropertyTable.isSupported(charset)) {
+            return null;
+        }
+
+        final Path file;
+
+        try {
+            file = Path.of(resourceUrl.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+
+        return Files.isRegularFile(file) && Files.size(file) >= threshold ? file : null;
+    }
+}
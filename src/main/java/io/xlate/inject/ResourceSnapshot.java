@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One loaded version of a properties resource. A snapshot is replaced as a
+ * whole when the resource is reloaded, taking the values converted from it
+ * along with it.
+ */
+class ResourceSnapshot {
+
+    private final PropertyTable table;
+    private final boolean missing;
+    private volatile byte[] contentDigest;
+    private volatile Properties properties;
+    private final ConcurrentMap<ConversionKey, Converted> converted = new ConcurrentHashMap<>();
+    private volatile Expansion expansion = new Expansion(SystemValues.LIVE);
+
+    /**
+     * Values expanded using one set of system values. The set is replaced
+     * when the system values change.
+     */
+    static final class Expansion {
+        final SystemValues system;
+        final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+
+        Expansion(SystemValues system) {
+            this.system = system;
+        }
+    }
+
+    static final class ConversionKey {
+        final String propertyName;
+        final PropertyConverter<?> converter;
+        final String pattern;
+
+        ConversionKey(String propertyName, PropertyConverter<?> converter, String pattern) {
+            this.propertyName = propertyName;
+            this.converter = converter;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(propertyName, converter, pattern);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConversionKey)) {
+                return false;
+            }
+            ConversionKey other = (ConversionKey) obj;
+            return converter == other.converter
+                    && propertyName.equals(other.propertyName)
+                    && pattern.equals(other.pattern);
+        }
+    }
+
+    static final class Converted {
+        final String raw;
+        final Object value;
+
+        Converted(String raw, Object value) {
+            this.raw = raw;
+            this.value = value;
+        }
+    }
+
+    ResourceSnapshot(Properties properties) {
+        this(PropertyTable.of(properties));
+    }
+
+    ResourceSnapshot(PropertyTable table) {
+        this(table, false);
+    }
+
+    ResourceSnapshot(PropertyTable table, boolean missing) {
+        this.table = table;
+        this.missing = missing;
+    }
+
+    /**
+     * @return the digest of the remote content the snapshot was read from, or
+     *         null for a local resource
+     */
+    byte[] getContentDigest() {
+        return contentDigest;
+    }
+
+    void setContentDigest(byte[] contentDigest) {
+        this.contentDigest = contentDigest;
+    }
+
+    /**
+     * @return true when the snapshot records that the resource was not found
+     */
+    boolean isMissing() {
+        return missing;
+    }
+
+    PropertyTable getTable() {
+        return table;
+    }
+
+    String get(String propertyName) {
+        return table.get(propertyName);
+    }
+
+    /**
+     * @return the value of the property with its references replaced using
+     *         the given system values, or null when it has not been expanded
+     *         yet
+     */
+    String getExpanded(SystemValues system, String propertyName) {
+        final Expansion current = expansion;
+        return current.system == system ? current.values.get(propertyName) : null;
+    }
+
+    void putExpanded(SystemValues system, String propertyName, String value) {
+        Expansion current = expansion;
+
+        if (current.system != system) {
+            current = new Expansion(system);
+            expansion = current;
+        }
+
+        current.values.put(propertyName, value);
+    }
+
+    /**
+     * @return the properties of the snapshot as a {@code Properties},
+     *         materialized from the table on first use. The result is shared
+     *         and must not be modified.
+     */
+    Properties getProperties() {
+        Properties result = properties;
+
+        if (result == null) {
+            result = table.toProperties();
+            properties = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Convert a property value, reusing the result of a previous conversion
+     * of the same raw value for the same key. The raw value is compared
+     * because it may have been resolved from a source other than this
+     * snapshot (e.g. a system property or the global property file).
+     */
+    @SuppressWarnings("unchecked")
+    <T> T convert(ConversionKey key, String raw, PropertyConverter<T> converter) throws Exception {
+        final Converted previous = converted.get(key);
+        final T value;
+
+        if (previous != null && previous.raw.equals(raw)) {
+            value = (T) previous.value;
+        } else {
+            value = converter.convert(raw, key.pattern);
+            converted.put(key, new Converted(raw, value));
+        }
+
+        return value != null ? converter.copy(value) : null;
+    }
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches {@code file:} resources for modification and reloads the
+ * corresponding {@link ResourceHandle} on a background thread. Changes are
+ * detected using a {@link WatchService} where the file system supports one,
+ * with the modification time and size of every watched file checked once per
+ * interval as a fallback. A resource is only reloaded once its modification
+ * time and size have been stable for one check, so a file that is still
+ * being written is not published.
+ */
+class ResourceWatcher implements Runnable, AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(ResourceWatcher.class.getName());
+    private static final String FILE = "file";
+
+    private final long interval;
+    private final Map<ResourceHandle, WatchedFile> watched = new ConcurrentHashMap<>();
+    private final Set<Path> directories = ConcurrentHashMap.newKeySet();
+    private WatchService watchService;
+    private Thread thread;
+    private volatile boolean closed;
+
+    static class WatchedFile {
+        final Path path;
+        FileState loaded;
+        FileState pending;
+
+        WatchedFile(Path path, FileState loaded) {
+            this.path = path;
+            this.loaded = loaded;
+        }
+    }
+
+    static class FileState {
+        static final FileState MISSING = new FileState(-1, -1);
+
+        final long modified;
+        final long size;
+
+        FileState(long modified, long size) {
+            this.modified = modified;
+            this.size = size;
+        }
+
+        static FileState of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileState(attributes.lastModifiedTime().toMillis(), attributes.size());
+            } catch (IOException e) {
+                return MISSING;
+            }
+        }
+
+        boolean matches(FileState other) {
+            return modified == other.modified && size == other.size;
+        }
+    }
+
+    ResourceWatcher(long interval) {
+        this.interval = interval;
+    }
+
+    static boolean isWatchable(URL resourceUrl) {
+        return FILE.equals(resourceUrl.getProtocol());
+    }
+
+    static Path toPath(URL resourceUrl) {
+        try {
+            return Paths.get(resourceUrl.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // Relative or otherwise non-hierarchical file URL, e.g. file:./config.properties
+            return new File(resourceUrl.getPath()).toPath();
+        }
+    }
+
+    synchronized void watch(ResourceHandle resource) {
+        if (closed || watched.containsKey(resource)) {
+            return;
+        }
+
+        final Path path = toPath(resource.getResourceUrl()).toAbsolutePath();
+        watched.put(resource, new WatchedFile(path, FileState.of(path)));
+        register(path.getParent());
+
+        if (thread == null) {
+            thread = new Thread(this, "property-inject-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        logger.log(Level.FINER, () -> "Watching resource for changes: " + path);
+    }
+
+    void register(Path directory) {
+        if (directory == null || !directories.add(directory)) {
+            return;
+        }
+
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+            }
+            directory.register(watchService,
+                               StandardWatchEventKinds.ENTRY_CREATE,
+                               StandardWatchEventKinds.ENTRY_MODIFY,
+                               StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.log(Level.FINE, e, () -> "Unable to watch " + directory + ", falling back to polling");
+        }
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            try {
+                awaitChange();
+                checkAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
+
+    void awaitChange() throws InterruptedException {
+        final WatchService service;
+
+        synchronized (this) {
+            service = watchService;
+        }
+
+        if (service == null) {
+            TimeUnit.MILLISECONDS.sleep(interval);
+            return;
+        }
+
+        WatchKey key = service.poll(interval, TimeUnit.MILLISECONDS);
+
+        while (key != null) {
+            key.pollEvents();
+            key.reset();
+            key = service.poll();
+        }
+    }
+
+    void checkAll() {
+        for (Map.Entry<ResourceHandle, WatchedFile> entry : watched.entrySet()) {
+            check(entry.getKey(), entry.getValue());
+        }
+    }
+
+    void check(ResourceHandle resource, WatchedFile file) {
+        final FileState current = FileState.of(file.path);
+
+        if (current.matches(file.loaded)) {
+            file.pending = null;
+        } else if (file.pending != null && current.matches(file.pending)) {
+            try {
+                resource.reload();
+                logger.log(Level.FINE, () -> "Reloaded resource: " + file.path);
+            } catch (Exception e) {
+                logger.log(Level.WARNING, e, () -> "Failed to reload resource, keeping previous contents: " + file.path);
+            }
+            file.loaded = current;
+            file.pending = null;
+        } else {
+            // Changed since the last check, wait for the file to settle
+            file.pending = current;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        watched.clear();
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.log(Level.FINE, e, () -> "Error closing watch service");
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+/**
+ * The environment variables and system properties referenced by injected
+ * values. They are either read live or from a snapshot taken at a single
+ * point in time, so that one injection never mixes values from before and
+ * after a change.
+ */
+final class SystemValues {
+
+    static final SystemValues LIVE = new SystemValues(null, null);
+
+    private final PropertyTable environment;
+    private final PropertyTable properties;
+
+    private SystemValues(PropertyTable environment, PropertyTable properties) {
+        this.environment = environment;
+        this.properties = properties;
+    }
+
+    static SystemValues snapshot() {
+        return new SystemValues(new PropertyTable(System.getenv()), PropertyTable.of(System.getProperties()));
+    }
+
+    String getenv(String name) {
+        return environment != null ? environment.get(name) : System.getenv(name);
+    }
+
+    String getProperty(String key) {
+        return properties != null ? properties.get(key) : System.getProperty(key);
+    }
+}
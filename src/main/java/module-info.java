@@ -25,10 +25,13 @@ module io.xlate.inject.property {
 
     requires java.base;
     requires java.logging;
+    requires java.net.http;
 
     requires jakarta.cdi;
     requires static jakarta.json;
 
+    uses io.xlate.inject.PropertyConverter;
+
     exports io.xlate.inject;
 
 }
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndexedPropertyTableTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testMatchesPropertiesLoad() throws IOException {
+        String text = "# comment\n"
+                + "a=1\r\nb : 2\rc 3\n"
+                + "escaped\\ key\\=name=v\\t\\u0041\n"
+                + "multi=first \\\n     second\n"
+                + "Aa=collides\nBB=with Aa\n"
+                + "duplicate=1\nduplicate=2\n"
+                + "café=crème\n"
+                + "empty=\n"
+                + "trailing=backslash\\";
+        Path file = Files.writeString(dir.resolve("latin1.properties"), text, StandardCharsets.ISO_8859_1);
+
+        Properties expected = new Properties();
+        expected.load(new StringReader(text));
+        PropertyTable table = IndexedPropertyTable.read(file, StandardCharsets.ISO_8859_1);
+
+        assertInstanceOf(IndexedPropertyTable.class, table);
+        assertEquals(expected.size(), table.size());
+        for (String name : expected.stringPropertyNames()) {
+            assertEquals(expected.getProperty(name), table.get(name), name);
+        }
+        assertNull(table.get("missing"));
+        assertEquals(expected, table.toProperties());
+        assertEquals(expected, table);
+    }
+
+    @Test
+    void testUtf8() throws IOException {
+        Path file = Files.writeString(dir.resolve("utf8.properties"), "greeting=こんにちは\nété=summer\n", StandardCharsets.UTF_8);
+        PropertyTable table = IndexedPropertyTable.read(file, StandardCharsets.UTF_8);
+
+        assertEquals("こんにちは", table.get("greeting"));
+        assertEquals("summer", table.get("été"));
+    }
+
+    @Test
+    void testFileRewrittenAfterRead() throws IOException {
+        Path file = Files.writeString(dir.resolve("rewritten.properties"), "a=1\nb=" + "x".repeat(10_000) + "\n");
+        PropertyTable table = IndexedPropertyTable.read(file, StandardCharsets.ISO_8859_1);
+
+        Files.writeString(file, "b=3\n");
+        assertEquals("x".repeat(10_000), table.get("b"));
+        assertEquals("1", table.get("a"));
+    }
+
+    @Test
+    void testLargeFileMappedOutsideHeap() throws IOException {
+        Path file = dir.resolve("large.properties");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            for (int i = 0; i < 100_000; i++) {
+                writer.write("key." + i + "=" + "x".repeat(100) + i + "\n");
+            }
+        }
+
+        IndexedPropertyTable table = (IndexedPropertyTable) IndexedPropertyTable.read(file, StandardCharsets.ISO_8859_1);
+
+        // The content is a mapped copy of the file, not a byte array on the heap
+        assertTrue(table.getContent().isDirect());
+        assertFalse(table.getContent().hasArray());
+        assertEquals(Files.size(file), table.getContent().capacity());
+
+        Files.delete(file);
+        assertEquals(100_000, table.size());
+        assertEquals("x".repeat(100) + 99_999, table.get("key.99999"));
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        Path file = Files.writeString(dir.resolve("empty.properties"), "# nothing\n");
+        assertSame(PropertyTable.EMPTY, IndexedPropertyTable.read(file, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testMalformedValueReportedWhenRead() throws IOException {
+        Path file = Files.writeString(dir.resolve("malformed.properties"), "valid=1\ninvalid=\\uZZZZ\n");
+        PropertyTable table = IndexedPropertyTable.read(file, StandardCharsets.ISO_8859_1);
+
+        assertEquals("1", table.get("valid"));
+        assertThrows(IllegalArgumentException.class, () -> table.get("invalid"));
+    }
+
+    @Test
+    void testResourceHandleIndexesLargeFiles() throws IOException {
+        Path small = Files.writeString(dir.resolve("small.properties"), "a=1\n");
+        Path large = Files.writeString(dir.resolve("large.properties"), "a=1\nb=" + "x".repeat(100) + "\n");
+        System.setProperty(PropertyInjectionOptions.INDEXED_THRESHOLD, "64");
+
+        try {
+            ResourceHandle smallHandle = new ResourceHandle(small.toUri().toURL(), PropertyResourceFormat.PROPERTIES);
+            ResourceHandle largeHandle = new ResourceHandle(large.toUri().toURL(), PropertyResourceFormat.PROPERTIES);
+
+            assertEquals(PropertyTable.class, smallHandle.getTable(false).getClass());
+            assertInstanceOf(IndexedPropertyTable.class, largeHandle.getTable(false));
+            assertEquals("1", largeHandle.getTable(false).get("a"));
+        } finally {
+            System.clearProperty(PropertyInjectionOptions.INDEXED_THRESHOLD);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PropertiesParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "a=1\nb=2\r\nc=3\rd=4",
+        "  # comment\n! other comment\n\n\t\fkey = value  ",
+        "key1:value\nkey2 value\nkey3 = = value\nkey4 \t : \t value\nkey5=",
+        "onlykey\n=novalue\n:alsonovalue",
+        "escaped\\ key\\=\\:name=v\\t\\n\\r\\f\\a\\\\",
+        "multi=first \\\n     second \\\r\n\tthird\\\r     fourth",
+        "even=backslashes\\\\\nnext=line",
+        "# comment \\\nnot.continued=true",
+        "key\\\n  continued=value",
+        "key \\\n  = value",
+        "blank.continuation=a\\\n   \nafter=b",
+        "unicode=\\u0041\\u00e9\\u4e2d",
+        "unicode.split=\\u00\\\n   41",
+        "trailing=backslash\\",
+        "duplicate=1\nduplicate=2",
+        "café=crème"
+    })
+    void testMatchesPropertiesLoad(String text) throws IOException {
+        Properties expected = new Properties();
+        expected.load(new StringReader(text));
+
+        assertEquals(expected, PropertiesParser.parse(text));
+        // A small window moves entries across its boundary while reading
+        assertEquals(expected, PropertiesParser.parse(new StringReader(text), 4));
+    }
+
+    @Test
+    void testLargeStreamMatchesPropertiesLoad() throws IOException {
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 5000; i++) {
+            text.append("# comment ").append(i).append('\n');
+            text.append("key.").append(i).append(" = value \\\n   ").append(i).append("\\u00e9").append('\n');
+        }
+
+        text.append("long=").append("x".repeat(3 * PropertiesParser.WINDOW_SIZE));
+        byte[] bytes = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+        Properties expected = new Properties();
+        expected.load(new ByteArrayInputStream(bytes));
+
+        assertEquals(expected, PropertiesParser.parse(new ByteArrayInputStream(bytes), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testMatchesPropertiesLoadIsoLatin1() throws IOException {
+        byte[] bytes = "café=crème\nescaped=\\u00e9".getBytes(StandardCharsets.ISO_8859_1);
+        Properties expected = new Properties();
+        expected.load(new ByteArrayInputStream(bytes));
+
+        assertEquals(expected, PropertiesParser.parse(new ByteArrayInputStream(bytes), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testUtf8() throws IOException {
+        byte[] bytes = "greeting=こんにちは\nété=summer".getBytes(StandardCharsets.UTF_8);
+        PropertyTable table = PropertiesParser.parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+
+        assertEquals("こんにちは", table.get("greeting"));
+        assertEquals("summer", table.get("été"));
+    }
+
+    @Test
+    void testMalformedUnicode() {
+        assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("key=\\uZZZZ"));
+        assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("key=\\u12"));
+    }
+}
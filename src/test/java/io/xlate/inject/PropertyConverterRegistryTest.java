@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+class PropertyConverterRegistryTest {
+
+    static class CurrencyConverter implements PropertyConverter<Currency> {
+        @Override
+        public Currency convert(String value, String pattern) {
+            return Currency.getInstance(value);
+        }
+    }
+
+    static class ShortDurationConverter implements PropertyConverter<Duration> {
+        @Override
+        public Duration convert(String value, String pattern) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+    }
+
+    static class StringConverter implements PropertyConverter<String> {
+        @Override
+        public String convert(String value, String pattern) {
+            return value.toUpperCase();
+        }
+    }
+
+    static class ExtendedCurrencyConverter extends CurrencyConverter {
+    }
+
+    @Test
+    void testGetTargetType() {
+        assertEquals(Currency.class, PropertyConverterRegistry.getTargetType(CurrencyConverter.class));
+        assertEquals(Currency.class, PropertyConverterRegistry.getTargetType(ExtendedCurrencyConverter.class));
+        assertNull(PropertyConverterRegistry.getTargetType(PropertyConverters.DURATION.getClass()));
+    }
+
+    @Test
+    void testBuiltInConverters() throws Exception {
+        PropertyConverterRegistry registry = new PropertyConverterRegistry(Collections.emptyList());
+        assertSame(PropertyConverters.DURATION, registry.forType(Duration.class));
+        assertEquals(TimeUnit.SECONDS, registry.<TimeUnit>forType(TimeUnit.class).convert(" SECONDS ", ""));
+        assertSame(registry.forType(TimeUnit.class), registry.forType(TimeUnit.class));
+        assertNull(registry.forType(Currency.class));
+        assertFalse(registry.isSupported(Currency.class));
+    }
+
+    @Test
+    void testJavaTimeConverters() throws Exception {
+        PropertyConverterRegistry registry = new PropertyConverterRegistry(Collections.emptyList());
+        assertEquals(Instant.parse("2026-01-02T03:04:05Z"),
+                     registry.<Instant>forType(Instant.class).convert("2026-01-02T03:04:05Z", ""));
+        assertEquals(Instant.parse("2026-01-02T03:04:05Z"),
+                     registry.<Instant>forType(Instant.class).convert("2026-01-02 03:04:05", "yyyy-MM-dd HH:mm:ss"));
+        assertEquals(Instant.parse("2026-01-02T01:04:05Z"),
+                     registry.<Instant>forType(Instant.class).convert("2026-01-02 03:04:05 +02:00", "yyyy-MM-dd HH:mm:ss xxx"));
+        assertEquals(LocalDate.of(2026, 1, 2),
+                     registry.<LocalDate>forType(LocalDate.class).convert("2026-01-02", ""));
+        assertEquals(LocalDate.of(2026, 1, 2),
+                     registry.<LocalDate>forType(LocalDate.class).convert("02/01/2026", "dd/MM/yyyy"));
+        assertEquals(LocalDateTime.of(2026, 1, 2, 3, 4),
+                     registry.<LocalDateTime>forType(LocalDateTime.class).convert("2026-01-02 03:04", "yyyy-MM-dd HH:mm"));
+        assertEquals(OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(2)),
+                     registry.<OffsetDateTime>forType(OffsetDateTime.class).convert("2026-01-02T03:04:05+02:00", ""));
+        assertEquals(ZonedDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC),
+                     registry.<ZonedDateTime>forType(ZonedDateTime.class).convert("2026-01-02T03:04:05Z", ""));
+        assertEquals(Period.ofMonths(3), registry.<Period>forType(Period.class).convert("P3M", ""));
+        assertSame(PropertyConverters.getFormatter("dd/MM/yyyy"), PropertyConverters.getFormatter("dd/MM/yyyy"));
+    }
+
+    @Test
+    void testJsonConvertersRegisteredWhenAvailable() {
+        assertTrue(PropertyConverters.isJsonAvailable());
+        assertSame(PropertyConverters.JsonConverters.JSON_ARRAY, PropertyConverters.forType(JsonArray.class));
+        assertSame(PropertyConverters.JsonConverters.JSON_OBJECT, PropertyConverters.forType(JsonObject.class));
+    }
+
+    @Test
+    void testServiceConverters() throws Exception {
+        PropertyConverterRegistry registry = new PropertyConverterRegistry(List.of(new CurrencyConverter(),
+                                                                                   new ShortDurationConverter(),
+                                                                                   new StringConverter()));
+        assertTrue(registry.isSupported(Currency.class));
+        assertEquals(Currency.getInstance("USD"), registry.<Currency>forType(Currency.class).convert("USD", ""));
+        assertEquals(Duration.ofSeconds(30), registry.<Duration>forType(Duration.class).convert("30", ""));
+        // Types having a dedicated producer method keep the built-in converter
+        assertSame(PropertyConverters.STRING, registry.forType(String.class));
+    }
+
+    @Test
+    void testRegisteredConverterReplacesService() {
+        PropertyConverterRegistry registry = new PropertyConverterRegistry(List.of(new ShortDurationConverter()));
+        PropertyConverter<Duration> first = registry.forType(Duration.class);
+        PropertyConverter<Duration> replacement = (value, pattern) -> Duration.ZERO;
+
+        assertTrue(registry.register(Duration.class, replacement));
+        assertFalse(registry.register(Integer.class, PropertyConverters.INTEGER));
+        assertSame(replacement, registry.forType(Duration.class));
+        assertTrue(first instanceof ShortDurationConverter);
+    }
+}
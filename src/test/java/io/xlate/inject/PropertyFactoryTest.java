@@ -17,22 +17,47 @@
 package io.xlate.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.AmbiguousResolutionException;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.AnnotatedParameter;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -49,6 +74,7 @@ class PropertyFactoryTest {
         bean = new PropertyFactory();
         when(defaultPropertyResource.value()).thenReturn("");
         when(defaultPropertyResource.format()).thenReturn(PropertyResourceFormat.PROPERTIES);
+        when(defaultPropertyResource.charset()).thenReturn("ISO-8859-1");
     }
 
     private Property mockProperty(String name,
@@ -129,6 +155,25 @@ class PropertyFactoryTest {
         assertEquals(name, result);
     }*/
 
+    @Test
+    void testGetInjectionPlanCachedByMember() throws IOException {
+        Property property = this.mockProperty("plan.name",
+                                              "io/xlate/inject/test/test.properties",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              "planDefault");
+        InjectionPoint point = this.mockInjectionPoint(property, Member.class, "field1", -1);
+        when(point.getMember().getDeclaringClass()).thenAnswer(invocation -> getClass());
+
+        InjectionPlan plan = bean.getInjectionPlan(point);
+        assertEquals("plan.name", plan.getPropertyName());
+        assertEquals(getClass().getName() + ".plan.name", plan.getSystemPropertyKey());
+        assertEquals("planDefault", plan.getDefaultValue());
+        assertEquals("classpath:io/xlate/inject/test/test.properties", plan.getResource().getResourceUrl().toString());
+        assertSame(plan, bean.getInjectionPlan(point));
+        assertSame(plan.getResource(), bean.getResourceHandle(plan.getResource().getResourceUrl(), PropertyResourceFormat.PROPERTIES));
+    }
+
     @Test
     void testGetSystemPropertyDefault() {
         String name = "get.system.property";
@@ -157,6 +202,48 @@ class PropertyFactoryTest {
         assertEquals("theSystemValue", result);
     }
 
+    @Test
+    void testGetSystemPropertySnapshot() {
+        String systemKey = "getSystemPropertySnapshot";
+        System.setProperty(systemKey, "before");
+        System.setProperty(PropertyInjectionOptions.SYSTEM_SNAPSHOT, "true");
+
+        try (PropertyFactory factory = new PropertyFactory()) {
+            System.setProperty(systemKey, "after");
+            assertEquals("before", factory.getSystemProperty(systemKey));
+
+            factory.refreshSystemProperties();
+            assertEquals("after", factory.getSystemProperty(systemKey));
+        } finally {
+            System.clearProperty(PropertyInjectionOptions.SYSTEM_SNAPSHOT);
+            System.clearProperty(systemKey);
+        }
+    }
+
+    @Test
+    void testExpandPropertySystemSnapshot() {
+        String systemKey = "expandPropertySystemSnapshot";
+        System.setProperty(systemKey, "before");
+        System.setProperty(PropertyInjectionOptions.SYSTEM_SNAPSHOT, "true");
+
+        try (PropertyFactory factory = new PropertyFactory()) {
+            Properties properties = new Properties();
+            properties.setProperty("value", "${sys." + systemKey + "}");
+            ResourceSnapshot snapshot = new ResourceSnapshot(properties);
+
+            System.setProperty(systemKey, "after");
+            assertEquals("before", factory.expandProperty(snapshot, "value"));
+            assertEquals("before", factory.resolvePlaceholders(snapshot, "${sys." + systemKey + "}"));
+
+            factory.refreshSystemProperties();
+            assertEquals("after", factory.expandProperty(snapshot, "value"));
+            assertEquals("after", factory.resolvePlaceholders(snapshot, "${sys." + systemKey + "}"));
+        } finally {
+            System.clearProperty(PropertyInjectionOptions.SYSTEM_SNAPSHOT);
+            System.clearProperty(systemKey);
+        }
+    }
+
     @Test
     void testGetPropertyWithClassLoader() throws IOException {
         final ClassLoader classLoader = getClass().getClassLoader();
@@ -226,6 +313,142 @@ class PropertyFactoryTest {
         assertEquals(output, output2);
     }
 
+    @Test
+    void testGetPropertiesConcurrentLoadOnce() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ClasspathURLStreamHandler handler = new ClasspathURLStreamHandler(classLoader) {
+            @Override
+            protected URLConnection openConnection(URL u) throws IOException {
+                loadCount.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.openConnection(u);
+            }
+        };
+        final URL resourceUrl = new URL(null, "classpath:io/xlate/inject/test/test.properties", handler);
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Properties>> results = new ArrayList<>(threads);
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bean.getProperties(resourceUrl, PropertyResourceFormat.PROPERTIES, false);
+                }));
+            }
+
+            start.countDown();
+            Properties first = results.get(0).get(5, TimeUnit.SECONDS);
+
+            for (Future<Properties> result : results) {
+                Properties properties = result.get(5, TimeUnit.SECONDS);
+                assertSame(first, properties);
+                assertEquals("testGetPropertyWithClassLoaderValue", properties.getProperty("testGetPropertyWithClassLoader"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void testGetPropertiesFailedLoadNotCached() throws IOException {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final URL resourceUrl = new URL(null, "classpath:io/xlate/inject/Invalid.properties", new ClasspathURLStreamHandler(classLoader));
+        final PropertyResourceFormat format = PropertyResourceFormat.PROPERTIES;
+
+        assertThrows(IllegalArgumentException.class, () -> bean.getProperties(resourceUrl, format, false));
+        assertThrows(IllegalArgumentException.class, () -> bean.getProperties(resourceUrl, format, false));
+    }
+
+    @Test
+    void testLoadAllSkipsFailedResources() throws IOException {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final ClasspathURLStreamHandler handler = new ClasspathURLStreamHandler(classLoader);
+        final PropertyResourceFormat format = PropertyResourceFormat.PROPERTIES;
+        ResourceHandle valid1 = bean.getResourceHandle(new URL(null, "classpath:io/xlate/inject/test/test.properties", handler), format);
+        ResourceHandle valid2 = bean.getResourceHandle(new URL(null, "classpath:global.properties", handler), format);
+        ResourceHandle missing = bean.getResourceHandle(new URL(null, "classpath:io/xlate/inject/test/missing.properties", handler), format);
+
+        bean.loadAll(List.of(valid1, missing, valid2), 4);
+
+        assertTrue(valid1.isLoaded());
+        assertTrue(valid2.isLoaded());
+        assertFalse(missing.isLoaded());
+        assertThrows(FileNotFoundException.class, () -> missing.getProperties(false));
+    }
+
+    @Test
+    void testMissingResourceCached() throws IOException {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final URL resourceUrl = new URL(null, "classpath:io/xlate/inject/test/missing.properties", new ClasspathURLStreamHandler(classLoader));
+        final ResourceHandle missing = bean.getResourceHandle(resourceUrl, PropertyResourceFormat.PROPERTIES);
+
+        final ResourceSnapshot snapshot = missing.getSnapshot(true);
+        assertTrue(snapshot.isMissing());
+        assertTrue(snapshot.getTable().isEmpty());
+        assertSame(snapshot, missing.getSnapshot(true));
+        assertThrows(FileNotFoundException.class, () -> missing.getSnapshot(false));
+    }
+
+    @Test
+    void testResourceHandleByCharset(@TempDir Path dir) throws IOException {
+        final Path file = Files.writeString(dir.resolve("utf8.properties"), "greeting=héllo\n", StandardCharsets.UTF_8);
+        final URL url = file.toUri().toURL();
+
+        ResourceHandle utf8 = bean.getResourceHandle(url, PropertyResourceFormat.PROPERTIES, StandardCharsets.UTF_8);
+        ResourceHandle latin1 = bean.getResourceHandle(url, PropertyResourceFormat.PROPERTIES);
+
+        assertSame(utf8, bean.getResourceHandle(url, PropertyResourceFormat.PROPERTIES, StandardCharsets.UTF_8));
+        assertEquals("héllo", utf8.getTable(false).get("greeting"));
+        assertEquals("hÃ©llo", latin1.getTable(false).get("greeting"));
+    }
+
+    @Test
+    void testResolutionCachedUntilReload(@TempDir Path dir) throws IOException {
+        final Path file = Files.writeString(dir.resolve("optional.properties"), "other=value\n");
+        final ResourceHandle resource = bean.getResourceHandle(file.toUri().toURL(), PropertyResourceFormat.PROPERTIES);
+        final InjectionPlan plan = new InjectionPlan(getClass(), "optional", "resolution.cached.optional", resource,
+                                                     PropertyResourceFormat.PROPERTIES, false, Property.DEFAULT_NULL, false, "");
+
+        assertNull(bean.getProperty(plan, null));
+        final InjectionPlan.Resolution resolution = plan.getResolution();
+        assertNull(resolution.value);
+        assertNull(bean.getProperty(plan, null));
+        assertSame(resolution, plan.getResolution());
+
+        Files.writeString(file, "optional=present\n");
+        resource.reload();
+        assertEquals("present", bean.getProperty(plan, null));
+    }
+
+    @Test
+    void testConvertReusedUntilRawValueChanges() throws Exception {
+        final AtomicInteger conversions = new AtomicInteger();
+        final PropertyConverter<String> converter = (value, pattern) -> {
+            conversions.incrementAndGet();
+            return value.toUpperCase();
+        };
+        final ResourceSnapshot snapshot = new ResourceSnapshot(new Properties());
+        final ResourceSnapshot.ConversionKey key = new ResourceSnapshot.ConversionKey("key", converter, "");
+
+        String first = snapshot.convert(key, "value1", converter);
+        assertEquals("VALUE1", first);
+        assertSame(first, snapshot.convert(key, "value1", converter));
+        assertSame(first, snapshot.convert(new ResourceSnapshot.ConversionKey("key", converter, ""), "value1", converter));
+        assertEquals(1, conversions.get());
+
+        assertEquals("VALUE2", snapshot.convert(key, "value2", converter));
+        assertEquals(2, conversions.get());
+    }
+
     @Test
     void testGetPropertyNullOpenStream() throws IOException {
         final URL resourceUrl = new URL(null, "file:////tmp/does-not-exist.properties");
@@ -309,6 +532,73 @@ class PropertyFactoryTest {
         assertEquals(expected, output);
     }
 
+    @Test
+    void testReplaceEnvironmentReferencesTemplateCached() {
+        String env = System.getenv("INJECTED_VARIABLE");
+        String input = "${env.INJECTED_VARIABLE}${env.INJECTED_VARIABLE2}-${env.STRING7}${env.}${env.X";
+        String expected = env + "-" + System.getenv("STRING7") + "${env.}${env.X";
+
+        assertEquals(expected, bean.replaceEnvironmentReferences(input));
+        PlaceholderTemplate template = bean.templates.get(input);
+        assertEquals(expected, bean.replaceEnvironmentReferences(input));
+        assertSame(template, bean.templates.get(input));
+    }
+
+    @Test
+    void testReplaceEnvironmentReferencesLiteral() {
+        String input = "no references ${here";
+        assertSame(input, bean.replaceEnvironmentReferences(input));
+        assertTrue(bean.templates.get(input).isLiteral());
+
+        String plain = "plain value";
+        assertSame(plain, bean.replaceEnvironmentReferences(plain));
+        assertFalse(bean.templates.containsKey(plain));
+    }
+
+    @Test
+    void testResolvePlaceholders() {
+        Properties properties = new Properties();
+        properties.setProperty("host", "example.com");
+        properties.setProperty("port", "8443");
+        properties.setProperty("url", "https://${host}:${prop.port}/${sys.placeholder.test:none}");
+        properties.setProperty("home", "${env.INJECTED_VARIABLE}");
+        properties.setProperty("fallback", "${env.INJECTED_VARIABLE2:default}|${prop.missing:x}|${prop.missing}|${missing}");
+        ResourceSnapshot snapshot = new ResourceSnapshot(properties);
+
+        assertEquals("https://example.com:8443/none", bean.expandProperty(snapshot, "url"));
+        assertEquals(System.getenv("INJECTED_VARIABLE"), bean.expandProperty(snapshot, "home"));
+        assertEquals("default|x||${missing}", bean.expandProperty(snapshot, "fallback"));
+        assertNull(bean.expandProperty(snapshot, "undefined"));
+        assertEquals("example.com/8443", bean.resolvePlaceholders(snapshot, "${host}/${port}"));
+
+        // Only the default value's template is retained by the factory
+        assertTrue(bean.templates.containsKey("${host}/${port}"));
+        assertFalse(bean.templates.containsKey(properties.getProperty("url")));
+
+        // Expanded once per snapshot
+        System.setProperty("placeholder.test", "set");
+        try {
+            assertEquals("https://example.com:8443/none", bean.expandProperty(snapshot, "url"));
+            assertEquals("https://example.com:8443/set", bean.expandProperty(new ResourceSnapshot(properties), "url"));
+        } finally {
+            System.clearProperty("placeholder.test");
+        }
+    }
+
+    @Test
+    void testResolvePlaceholdersCycle() {
+        Properties properties = new Properties();
+        properties.setProperty("a", "${b}");
+        properties.setProperty("b", "x${prop.c}");
+        properties.setProperty("c", "${a}");
+        properties.setProperty("self", "${self}");
+        ResourceSnapshot snapshot = new ResourceSnapshot(properties);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> bean.expandProperty(snapshot, "a"));
+        assertEquals("Circular property reference: a -> b -> c -> a", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> bean.expandProperty(snapshot, "self"));
+    }
+
     @Test
     void testReplaceEnvironmentReferencesInvalid() {
         String expected = "Blah blah '${INJECTED_VARIABLE2}' bLaH blah";
@@ -317,4 +607,176 @@ class PropertyFactoryTest {
         assertEquals(expected, output);
     }
 
+    @SuppressWarnings("unchecked")
+    Instance<PropertyFileProvider> mockFileProvider(PropertyFileProvider... providers) {
+        Instance<PropertyFileProvider> instance = mock(Instance.class);
+        List<Instance.Handle<PropertyFileProvider>> handles = new ArrayList<>();
+
+        for (PropertyFileProvider provider : providers) {
+            handles.add(mockHandle(provider, Dependent.class));
+        }
+
+        when(instance.isUnsatisfied()).thenReturn(providers.length == 0);
+        when(instance.handles()).thenAnswer(invocation -> handles);
+        return instance;
+    }
+
+    Instance.Handle<PropertyFileProvider> mockHandle(PropertyFileProvider provider, Class<? extends Annotation> scope) {
+        Instance.Handle<PropertyFileProvider> handle = mock(Instance.Handle.class);
+        Bean<PropertyFileProvider> bean = mock(Bean.class);
+        when(bean.getScope()).thenAnswer(invocation -> scope);
+        when(handle.get()).thenReturn(provider);
+        when(handle.getBean()).thenReturn(bean);
+        return handle;
+    }
+
+    @Test
+    void testGlobalPropertiesResolvedOnce() throws Exception {
+        PropertyFileProvider provider = () -> "classpath:global.properties";
+        Instance<PropertyFileProvider> instance = mockFileProvider(provider);
+
+        GlobalProperties first = bean.getGlobalProperties(instance);
+        GlobalProperties second = bean.getGlobalProperties(instance);
+
+        assertSame(first, second);
+        assertEquals("classpath:global.properties", first.getLayers()[0].getResourceUrl().toString());
+        verify(instance, times(1)).isUnsatisfied();
+        verify(instance, times(1)).handles();
+    }
+
+    @Test
+    void testGlobalPropertiesDestroysDependentProviders() throws Exception {
+        Instance.Handle<PropertyFileProvider> dependent = mockHandle(() -> "classpath:global.properties", Dependent.class);
+        Instance.Handle<PropertyFileProvider> shared = mockHandle(new PropertyFileProvider() {
+            @Override
+            public String getLocation() {
+                return "classpath:shared.properties";
+            }
+
+            @Override
+            public int getPriority() {
+                return 1;
+            }
+        }, ApplicationScoped.class);
+        Instance<PropertyFileProvider> instance = mock(Instance.class);
+        when(instance.handles()).thenAnswer(invocation -> List.of(dependent, shared));
+
+        assertEquals(2, bean.getGlobalProperties(instance).getLayers().length);
+        verify(dependent).destroy();
+        verify(shared, never()).destroy();
+    }
+
+    @Test
+    void testGlobalPropertiesNotCacheable() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        PropertyFileProvider provider = new PropertyFileProvider() {
+            @Override
+            public String getLocation() {
+                return calls.incrementAndGet() == 1 ? "classpath:global.properties" : "classpath:global2.properties";
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return false;
+            }
+        };
+        Instance<PropertyFileProvider> instance = mockFileProvider(provider);
+
+        GlobalProperties first = bean.getGlobalProperties(instance);
+        GlobalProperties second = bean.getGlobalProperties(instance);
+
+        assertEquals("classpath:global.properties", first.getLayers()[0].getResourceUrl().toString());
+        assertEquals("classpath:global2.properties", second.getLayers()[0].getResourceUrl().toString());
+        verify(instance, times(2)).handles();
+    }
+
+    @Test
+    void testGlobalPropertiesUnsatisfiedCached() throws Exception {
+        Instance<PropertyFileProvider> instance = mockFileProvider();
+
+        assertNull(bean.getGlobalProperties(instance));
+        assertNull(bean.getGlobalProperties(instance));
+        assertNull(bean.getGlobalProperties(null));
+        verify(instance, times(1)).isUnsatisfied();
+    }
+
+    @Test
+    void testGlobalPropertiesLayeredByPriority(@TempDir Path dir) throws Exception {
+        Path defaults = Files.writeString(dir.resolve("defaults.properties"), "a=defaults\nb=defaults\nc=defaults\n");
+        Path region = Files.writeString(dir.resolve("region.properties"), "b=region\nc=region\n");
+        Path host = Files.writeString(dir.resolve("host.properties"), "c=host\n");
+
+        PropertyFileProvider layered = new PropertyFileProvider() {
+            @Override
+            public String getLocation() {
+                return defaults.toUri().toString();
+            }
+
+            @Override
+            public List<String> getLocations() {
+                return List.of(defaults.toUri().toString(), region.toUri().toString());
+            }
+        };
+        PropertyFileProvider overrides = new PropertyFileProvider() {
+            @Override
+            public String getLocation() {
+                return host.toUri().toString();
+            }
+
+            @Override
+            public int getPriority() {
+                return 10;
+            }
+        };
+
+        GlobalProperties global = bean.getGlobalProperties(mockFileProvider(overrides, layered));
+        Properties merged = global.getProperties(false);
+        assertEquals("defaults", merged.getProperty("a"));
+        assertEquals("region", merged.getProperty("b"));
+        assertEquals("host", merged.getProperty("c"));
+        assertSame(merged, global.getProperties(false));
+
+        Files.writeString(region, "b=region2\n");
+        global.getLayers()[1].reload();
+        Properties remerged = global.getProperties(false);
+        assertEquals("region2", remerged.getProperty("b"));
+        assertEquals("host", remerged.getProperty("c"));
+        assertEquals("defaults", remerged.getProperty("a"));
+    }
+
+    @Test
+    void testGlobalPropertiesMissingLayerRequired(@TempDir Path dir) throws Exception {
+        Path present = Files.writeString(dir.resolve("present.properties"), "a=present\n");
+        Path absent = dir.resolve("absent.properties");
+        PropertyFileProvider provider = new PropertyFileProvider() {
+            @Override
+            public String getLocation() {
+                return present.toUri().toString();
+            }
+
+            @Override
+            public List<String> getLocations() {
+                return List.of(present.toUri().toString(), absent.toUri().toString());
+            }
+        };
+
+        GlobalProperties global = bean.getGlobalProperties(mockFileProvider(provider));
+        assertEquals("present", global.getTable(true).get("a"));
+        // The partial merge is not given to a caller that requires every layer
+        FileNotFoundException e = assertThrows(FileNotFoundException.class, () -> global.getTable(false));
+        assertEquals(absent.toUri().toURL().toString(), e.getMessage());
+        assertEquals("present", global.getTable(true).get("a"));
+    }
+
+    @Test
+    void testGlobalPropertiesEqualPriorityAmbiguous() {
+        PropertyFileProvider first = () -> "classpath:io/xlate/inject/test/test.xml";
+        PropertyFileProvider second = () -> "classpath:io/xlate/inject/test/test.properties";
+        Instance<PropertyFileProvider> instance = mockFileProvider(first, second);
+
+        AmbiguousResolutionException e = assertThrows(AmbiguousResolutionException.class,
+                                                      () -> bean.getGlobalProperties(instance));
+        assertTrue(e.getMessage().endsWith("have the same priority 0"));
+    }
+
 }
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(WeldJunit5Extension.class)
+class PropertyInjectionExtensionIT {
+
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator
+        .from(new Weld().disableDiscovery()
+                        .addExtension(new PropertyInjectionExtension()))
+        .build();
+
+    @Inject
+    PropertyInjectionExtension extension;
+
+    @Inject
+    @Property(resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+    String testGetPropertyWithClassLoader;
+
+    @Inject
+    @PropertyResource("io/xlate/inject/PropertyResourceProducerBeanIT2.properties")
+    Properties props2;
+
+    @Test
+    void testProducersShareExtensionFactory() {
+        assertEquals("testGetPropertyWithClassLoaderValue", testGetPropertyWithClassLoader);
+        assertEquals("true", props2.getProperty("value.is.found"));
+
+        PropertyFactory factory = extension.getFactory();
+        assertTrue(factory.propertiesCache.containsKey("classpath:io/xlate/inject/test/test.properties"));
+        assertTrue(factory.propertiesCache.containsKey("classpath:io/xlate/inject/PropertyResourceProducerBeanIT2.properties"));
+    }
+
+    @Test
+    void testInvalidInjectionPointsFailDeployment() {
+        Weld invalid = new Weld(UUID.randomUUID().toString())
+                .disableDiscovery()
+                .addExtension(new PropertyInjectionExtension())
+                .addBeanClass(InvalidPropertyBean.class);
+
+        DeploymentException ex = assertThrows(DeploymentException.class, invalid::initialize);
+        String message = ex.getMessage();
+        assertTrue(message.contains("invalidInteger"), message);
+        assertTrue(message.contains("missingResource"), message);
+    }
+
+    @Test
+    void testPreloadIncludesGlobalFile() {
+        PropertyInjectionExtension preloading = new PropertyInjectionExtension();
+        Weld preload = new Weld(UUID.randomUUID().toString())
+                .disableDiscovery()
+                .addExtension(preloading)
+                .addBeanClasses(PreloadBean.class, TestFileProvider.class);
+
+        System.setProperty(PropertyInjectionOptions.PRELOAD, "true");
+
+        try (WeldContainer container = preload.initialize()) {
+            PropertyFactory factory = preloading.getFactory();
+            assertTrue(factory.propertiesCache.get("classpath:io/xlate/inject/test/test.properties").isLoaded());
+            // Not needed to resolve PreloadBean, loaded only by the preload
+            assertTrue(factory.propertiesCache.get("classpath:global.properties").isLoaded());
+        } finally {
+            System.clearProperty(PropertyInjectionOptions.PRELOAD);
+        }
+    }
+
+    @Test
+    void testConvertersForAdditionalTypes() {
+        Weld converting = new Weld(UUID.randomUUID().toString())
+                .disableDiscovery()
+                .addExtension(new PropertyInjectionExtension())
+                .addBeanClasses(ConvertedBean.class, CurrencyConverter.class);
+
+        try (WeldContainer container = converting.initialize()) {
+            ConvertedBean bean = container.select(ConvertedBean.class).get();
+            assertEquals(Duration.ofSeconds(5), bean.duration);
+            assertEquals(URI.create("https://example.com/path"), bean.uri);
+            assertEquals(Paths.get("/tmp/file.txt"), bean.path);
+            assertEquals(TimeUnit.MINUTES, bean.unit);
+            assertEquals(LocalDate.of(2026, 10, 18), bean.date);
+            assertEquals(Currency.getInstance("EUR"), bean.currency);
+            assertEquals(Duration.ofMinutes(1), bean.durationValue.get());
+        }
+    }
+
+    @Test
+    void testUnsupportedTypeFailsDeployment() {
+        Weld unsupported = new Weld(UUID.randomUUID().toString())
+                .disableDiscovery()
+                .addExtension(new PropertyInjectionExtension())
+                .addBeanClass(ConvertedBean.class);
+
+        // No converter for Currency without the CurrencyConverter bean
+        DeploymentException ex = assertThrows(DeploymentException.class, unsupported::initialize);
+        assertTrue(ex.getMessage().contains("currency"), ex.getMessage());
+    }
+
+    static class ConvertedBean {
+        @Inject
+        @Property(defaultValue = "PT5S", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        Duration duration;
+
+        @Inject
+        @Property(defaultValue = "https://example.com/path", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        URI uri;
+
+        @Inject
+        @Property(defaultValue = "/tmp/file.txt", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        Path path;
+
+        @Inject
+        @Property(defaultValue = "MINUTES", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        TimeUnit unit;
+
+        @Inject
+        @Property(defaultValue = "18.10.2026", pattern = "dd.MM.yyyy", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        LocalDate date;
+
+        @Inject
+        @Property(defaultValue = "EUR", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        Currency currency;
+
+        @Inject
+        @Property(defaultValue = "PT1M", resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        PropertyValue<Duration> durationValue;
+    }
+
+    static class CurrencyConverter implements PropertyConverter<Currency> {
+        @Override
+        public Currency convert(String value, String pattern) {
+            return Currency.getInstance(value);
+        }
+    }
+
+    static class PreloadBean {
+        @Inject
+        @Property(resource = @PropertyResource("io/xlate/inject/test/test.properties"))
+        String testGetPropertyWithClassLoader;
+    }
+
+    static class InvalidPropertyBean {
+        @Inject
+        @Property(name = "testProducePropertyIntegerInvalid",
+                  resource = @PropertyResource("io/xlate/inject/PropertyProducerBeanTest.properties"))
+        Integer invalidInteger;
+
+        @Inject
+        @Property(resource = @PropertyResource("io/xlate/inject/does-not-exist.properties"))
+        String missingResource;
+    }
+}
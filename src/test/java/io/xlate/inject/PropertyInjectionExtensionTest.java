@@ -17,20 +17,38 @@
 package io.xlate.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.ProcessInjectionPoint;
+import jakarta.enterprise.util.AnnotationLiteral;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class PropertyInjectionExtensionTest {
 
@@ -86,4 +104,60 @@ class PropertyInjectionExtensionTest {
         extLogger.removeHandler(handler);
         assertEquals(0, messages.size());
     }
+
+    @SuppressWarnings("unchecked")
+    ProcessInjectionPoint<Object, Object> processInjectionPoint(Annotation qualifier) {
+        ProcessInjectionPoint<Object, Object> pip = mock(ProcessInjectionPoint.class);
+        InjectionPoint point = mock(InjectionPoint.class);
+        when(point.getQualifiers()).thenReturn(Set.of(qualifier));
+        when(point.getType()).thenReturn(String.class);
+        when(pip.getInjectionPoint()).thenReturn(point);
+        return pip;
+    }
+
+    @Test
+    @SuppressWarnings({ "serial", "unchecked" })
+    void testAfterDeploymentValidationResolvesPropertyInjectionPoints() {
+        ProcessInjectionPoint<Object, Object> property = processInjectionPoint(new AnnotationLiteral<Property>() {});
+        ProcessInjectionPoint<Object, Object> resource = processInjectionPoint(new AnnotationLiteral<PropertyResource>() {});
+        ProcessInjectionPoint<Object, Object> other = processInjectionPoint(new AnnotationLiteral<Default>() {});
+        AfterDeploymentValidation adv = mock(AfterDeploymentValidation.class);
+        CreationalContext<Object> context = mock(CreationalContext.class);
+        when(beanManager.createCreationalContext(null)).thenReturn(context);
+
+        ext.processInjectionPoint(property);
+        ext.processInjectionPoint(resource);
+        ext.processInjectionPoint(other);
+        ext.afterDeploymentValidation(adv, beanManager);
+
+        verify(beanManager).getInjectableReference(eq(property.getInjectionPoint()), any());
+        verify(beanManager).getInjectableReference(eq(resource.getInjectionPoint()), any());
+        verify(beanManager, never()).getInjectableReference(eq(other.getInjectionPoint()), any());
+        verify(context, times(2)).release();
+        verify(adv, never()).addDeploymentProblem(any());
+    }
+
+    @Test
+    @SuppressWarnings({ "serial", "unchecked" })
+    void testAfterDeploymentValidationReportsAllProblems() {
+        ProcessInjectionPoint<Object, Object> property1 = processInjectionPoint(new AnnotationLiteral<Property>() {});
+        ProcessInjectionPoint<Object, Object> property2 = processInjectionPoint(new AnnotationLiteral<Property>() {});
+        AfterDeploymentValidation adv = mock(AfterDeploymentValidation.class);
+        CreationalContext<Object> context = mock(CreationalContext.class);
+        when(beanManager.createCreationalContext(null)).thenReturn(context);
+        InjectionException cause = new InjectionException("Invalid value");
+        when(beanManager.getInjectableReference(any(), any())).thenThrow(cause);
+
+        ext.processInjectionPoint(property1);
+        ext.processInjectionPoint(property2);
+        ext.afterDeploymentValidation(adv, beanManager);
+
+        ArgumentCaptor<Throwable> problems = ArgumentCaptor.forClass(Throwable.class);
+        verify(adv, times(2)).addDeploymentProblem(problems.capture());
+
+        for (Throwable problem : problems.getAllValues()) {
+            assertEquals(DeploymentException.class, problem.getClass());
+            assertSame(cause, problem.getCause());
+        }
+    }
 }
@@ -76,6 +76,12 @@ class PropertyProducerBeanIT {
     @Property
     int int3;
 
+    @Inject @Property(name = "int1")
+    PropertyValue<Integer> int1Value;
+
+    @Inject @Property(name = "string1")
+    PropertyValue<String> string1Value;
+
     @BeforeAll
     public static void setUp() {
         System.setProperty("string6.property.name", "string6value.system");
@@ -139,4 +145,10 @@ class PropertyProducerBeanIT {
     void testInt3_NotFoundWithPrimitiveDefaultValue() {
         assertEquals(0, int3);
     }
+
+    @Test
+    void testPropertyValue_DefaultLookup() {
+        assertEquals(42, int1Value.get());
+        assertEquals("string1value", string1Value.get());
+    }
 }
@@ -17,12 +17,17 @@
 package io.xlate.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -30,6 +35,7 @@ import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.logging.Handler;
@@ -38,6 +44,7 @@ import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.AnnotatedParameter;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.json.Json;
@@ -45,6 +52,7 @@ import jakarta.json.Json;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -57,12 +65,23 @@ class PropertyProducerBeanTest {
     @Mock
     PropertyResource defaultPropertyResource;
 
+    @TempDir
+    Path tempDir;
+
+    PropertyValue<Integer> integerValue;
+    PropertyValue<BigDecimal> bigDecimalValue;
+    PropertyValue<Date> dateValue;
+    PropertyValue<Object> unsupportedValue;
+
     private Locale locale;
     @BeforeEach
     void setup() {
         bean = new PropertyProducerBean();
+        // No extension in the deployment, the bean uses a private factory
+        bean.setExtension(mock(Instance.class));
         when(defaultPropertyResource.value()).thenReturn("");
         when(defaultPropertyResource.format()).thenReturn(PropertyResourceFormat.PROPERTIES);
+        when(defaultPropertyResource.charset()).thenReturn("ISO-8859-1");
         locale = Locale.getDefault();
         Locale.setDefault(Locale.ENGLISH);
     }
@@ -958,8 +977,123 @@ class PropertyProducerBeanTest {
         });
     }
 
+    /*-****************** converted value cache *************************/
+    @Test
+    void testProducePropertyBigDecimalConvertedOnce() {
+        Property property = this.mockProperty("",
+                                              "",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point1 = this.mockInjectionPoint(property, Member.class, "testProducePropertyBigDecimal", -1);
+        InjectionPoint point2 = this.mockInjectionPoint(property, Member.class, "testProducePropertyBigDecimal", -1);
+        BigDecimal first = bean.produceBigDecimalProperty(point1);
+        assertEquals(new BigDecimal("42.042"), first);
+        assertSame(first, bean.produceBigDecimalProperty(point1));
+        assertSame(first, bean.produceBigDecimalProperty(point2));
+    }
+
+    @Test
+    void testProduceDatePropertyCopied() {
+        Property property = this.mockProperty("",
+                                              "",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point = this.mockInjectionPoint(property, Member.class, "testProduceDateProperty", -1);
+        Date first = bean.produceDateProperty(point);
+        first.setTime(0);
+        Date second = bean.produceDateProperty(point);
+        assertNotSame(first, second);
+        assertEquals(LocalDateTime.parse("2017-07-01T23:45:16.432").atZone(ZoneId.of("-0400")).toInstant().toEpochMilli(),
+                     second.getTime());
+    }
+
+    /*-****************** produce PropertyValue *************************/
+    Type propertyValueType(String fieldName) throws Exception {
+        return getClass().getDeclaredField(fieldName).getGenericType();
+    }
+
+    @Test
+    void testProducePropertyValueInteger() throws Exception {
+        Property property = this.mockProperty("testProducePropertyInteger",
+                                              "io/xlate/inject/PropertyProducerBeanTest.properties",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point = this.mockInjectionPoint(property, propertyValueType("integerValue"), Member.class, "integerValue", -1);
+        PropertyValue<Integer> result = bean.producePropertyValue(point);
+        assertEquals(Integer.valueOf(42), result.get());
+    }
+
+    @Test
+    void testProducePropertyValueUnsupportedType() throws Exception {
+        Property property = this.mockProperty("testProducePropertyInteger",
+                                              "io/xlate/inject/PropertyProducerBeanTest.properties",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point = this.mockInjectionPoint(property, propertyValueType("unsupportedValue"), Member.class, "unsupportedValue", -1);
+        assertThrows(InjectionException.class, () -> bean.producePropertyValue(point));
+    }
+
+    @Test
+    void testProducePropertyValueInvalid() throws Exception {
+        Property property = this.mockProperty("testProducePropertyIntegerInvalid",
+                                              "io/xlate/inject/PropertyProducerBeanTest.properties",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point = this.mockInjectionPoint(property, propertyValueType("integerValue"), Member.class, "integerValue", -1);
+        assertThrows(InjectionException.class, () -> bean.producePropertyValue(point));
+    }
+
+    @Test
+    void testProducePropertyValueDateCopied() throws Exception {
+        Property property = this.mockProperty("testProduceDateProperty",
+                                              "io/xlate/inject/PropertyProducerBeanTest.properties",
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point = this.mockInjectionPoint(property, propertyValueType("dateValue"), Member.class, "dateValue", -1);
+        PropertyValue<Date> result = bean.producePropertyValue(point);
+        Date first = result.get();
+        Date second = result.get();
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testProducePropertyValueReflectsReload() throws Exception {
+        Path file = tempDir.resolve("dynamic.properties");
+        Files.writeString(file, "dynamic=1.5\n");
+        Property property = this.mockProperty("dynamic",
+                                              file.toUri().toString(),
+                                              PropertyResourceFormat.PROPERTIES,
+                                              "",
+                                              Property.DEFAULT_NULL);
+        InjectionPoint point = this.mockInjectionPoint(property, propertyValueType("bigDecimalValue"), Member.class, "bigDecimalValue", -1);
+        PropertyValue<BigDecimal> result = bean.producePropertyValue(point);
+
+        BigDecimal initial = result.get();
+        assertEquals(new BigDecimal("1.5"), initial);
+        assertSame(initial, result.get());
+
+        Files.writeString(file, "dynamic=2.5\n");
+        getFactory().getInjectionPlan(point).getResource().reload();
+
+        assertEquals(new BigDecimal("2.5"), result.get());
+    }
+
+    PropertyFactory getFactory() throws Exception {
+        Field factory = PropertyProducerBean.class.getDeclaredField("factory");
+        factory.setAccessible(true);
+        return (PropertyFactory) factory.get(bean);
+    }
+
     @AfterEach
     public void teardown(){
         Locale.setDefault(locale);
+        bean.close();
     }
 }
@@ -25,9 +25,12 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.lang.reflect.Member;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import jakarta.enterprise.inject.InjectionException;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +45,8 @@ class PropertyResourceProducerBeanTest extends AbstractInjectionPointTest {
     @BeforeEach
     void setup() {
         bean = new PropertyResourceProducerBean();
+        // No extension in the deployment, the bean uses a private factory
+        bean.setExtension(mock(Instance.class));
     }
 
     private PropertyResource annotation(String url,
@@ -51,6 +56,7 @@ class PropertyResourceProducerBeanTest extends AbstractInjectionPointTest {
         PropertyResource annotation = mock(PropertyResource.class);
         when(annotation.value()).thenReturn(url);
         when(annotation.format()).thenReturn(format);
+        when(annotation.charset()).thenReturn("ISO-8859-1");
         when(annotation.resolveEnvironment()).thenReturn(resolveEnvironment);
         return annotation;
     }
@@ -78,6 +84,40 @@ class PropertyResourceProducerBeanTest extends AbstractInjectionPointTest {
         assertEquals(3, result.size());
     }
 
+    @Test
+    void testProducePropertyMapDefault() {
+        PropertyResource annotation = annotation("", PropertyResourceFormat.PROPERTIES, false);
+        InjectionPoint point = injectionPoint(annotation, Map.class, Member.class, "", -1);
+        Map<String, String> result = bean.producePropertyMap(point);
+        assertEquals(bean.produceProperties(injectionPoint(annotation, Properties.class, Member.class, "", -1)), result);
+        assertEquals(3, result.size());
+        assertThrows(UnsupportedOperationException.class, () -> result.put("key", "value"));
+    }
+
+    @Test
+    void testLayeredPropertyMapOverlay() {
+        Properties resource = new Properties();
+        resource.setProperty("a", "resource");
+        resource.setProperty("b", "resource");
+        Properties global = new Properties();
+        global.setProperty("b", "global");
+        global.setProperty("c", "global");
+
+        Map<String, String> view = new LayeredPropertyMap(PropertyTable.of(resource), PropertyTable.of(global));
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", "resource");
+        expected.put("b", "resource");
+        expected.put("c", "global");
+
+        assertEquals(3, view.size());
+        assertEquals("resource", view.get("b"));
+        assertEquals("global", view.get("c"));
+        assertTrue(view.containsKey("c"));
+        assertEquals(expected, new HashMap<>(view));
+        assertEquals(expected, view);
+        assertEquals(resource, new LayeredPropertyMap(PropertyTable.of(resource), null));
+    }
+
     @Test
     void testProducePropertiesDefaultWrongTargetType() {
         PropertyResource annotation = annotation("", PropertyResourceFormat.PROPERTIES, false);
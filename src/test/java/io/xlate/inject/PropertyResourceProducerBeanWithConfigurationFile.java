@@ -19,6 +19,7 @@ package io.xlate.inject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.Map;
 import java.util.Properties;
 
 import jakarta.inject.Inject;
@@ -46,6 +47,18 @@ class PropertyResourceProducerBeanWithConfigurationFileIT {
     @PropertyResource("io/xlate/inject/PropertyResourceProducerBeanIT2.properties")
     Properties props2;
 
+    @Inject
+    @PropertyResource("io/xlate/inject/PropertyResourceProducerBeanIT2.properties")
+    Map<String, String> map2;
+
+    @Test
+    void testGlobalFileOverriddenByLocalLocationMap() {
+        assertEquals(props2, map2);
+        assertEquals(3, map2.size());
+        assertEquals("true", map2.get("value.is.found"));
+        assertEquals("x", map2.get("key1"));
+    }
+
     @Test
     void testGlobalFile() {
         assertNotNull(defaultProps);
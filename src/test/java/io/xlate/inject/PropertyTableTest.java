@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyTableTest {
+
+    @Test
+    void testLookup() {
+        Properties properties = new Properties();
+        for (int i = 0; i < 1000; i++) {
+            properties.setProperty("key" + i, "value" + i);
+        }
+        // Colliding hash codes
+        properties.setProperty("Aa", "first");
+        properties.setProperty("BB", "second");
+
+        PropertyTable table = PropertyTable.of(properties);
+
+        assertEquals(1002, table.size());
+        assertEquals("value0", table.get("key0"));
+        assertEquals("value999", table.get("key999"));
+        assertEquals("first", table.get("Aa"));
+        assertEquals("second", table.get("BB"));
+        assertNull(table.get("key1000"));
+        assertNull(table.get(1));
+        assertTrue(table.containsKey("Aa"));
+        assertFalse(table.containsKey("missing"));
+        assertEquals(properties, table);
+    }
+
+    @Test
+    void testEmpty() {
+        assertSame(PropertyTable.EMPTY, PropertyTable.of(new Properties()));
+        assertTrue(PropertyTable.EMPTY.isEmpty());
+        assertNull(PropertyTable.EMPTY.get("key"));
+        assertFalse(PropertyTable.EMPTY.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    void testImmutable() {
+        PropertyTable table = new PropertyTable(Map.of("key", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> table.put("key", "other"));
+        assertThrows(UnsupportedOperationException.class, () -> table.entrySet().iterator().next().setValue("other"));
+        assertEquals("value", table.get("key"));
+    }
+
+    @Test
+    void testToProperties() {
+        Map<String, String> source = new HashMap<>();
+        source.put("a", "1");
+        source.put("b", "2");
+        PropertyTable table = new PropertyTable(source);
+        Properties first = table.toProperties();
+
+        assertEquals(source, first);
+        assertNotSame(first, table.toProperties());
+    }
+
+    @Test
+    void testSnapshotMaterializesPropertiesOnce() {
+        ResourceSnapshot snapshot = new ResourceSnapshot(new PropertyTable(Map.of("a", "1")));
+        assertEquals("1", snapshot.get("a"));
+        assertSame(snapshot.getProperties(), snapshot.getProperties());
+        assertEquals("1", snapshot.getProperties().getProperty("a"));
+    }
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class RemoteResourceCacheTest {
+
+    static final String ETAG = "\"v1\"";
+
+    @TempDir
+    Path cacheDir;
+
+    HttpServer server;
+    List<String> statuses = new CopyOnWriteArrayList<>();
+    List<String> conditions = new CopyOnWriteArrayList<>();
+    volatile String body = "key=value1\n";
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/config.properties", this::handle);
+        server.createContext("/unavailable.properties", exchange -> respond(exchange, 503, null));
+        server.createContext("/slow/", this::handleSlow);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    void handleSlow(HttpExchange exchange) throws IOException {
+        int current = active.incrementAndGet();
+        maxActive.accumulateAndGet(current, Math::max);
+
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            active.decrementAndGet();
+        }
+
+        respond(exchange, 200, "key=slow\n");
+    }
+
+    void handle(HttpExchange exchange) throws IOException {
+        String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+        conditions.add(String.valueOf(condition));
+
+        if (ETAG.equals(condition)) {
+            respond(exchange, 304, null);
+        } else {
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            respond(exchange, 200, body);
+        }
+    }
+
+    void respond(HttpExchange exchange, int status, String content) throws IOException {
+        statuses.add(String.valueOf(status));
+
+        if (content == null) {
+            exchange.sendResponseHeaders(status, -1);
+        } else {
+            byte[] bytes = content.getBytes(StandardCharsets.ISO_8859_1);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(bytes);
+            }
+        }
+
+        exchange.close();
+    }
+
+    URL url(String path) throws IOException {
+        return new URL("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    static Properties load(RemoteResourceCache cache, URL url) throws IOException {
+        Properties properties = new Properties();
+
+        try (InputStream stream = new ByteArrayInputStream(RemoteResourceCache.await(cache.fetch(url)))) {
+            properties.load(stream);
+        }
+
+        return properties;
+    }
+
+    @Test
+    void testConditionalRequestReusesLocalCopy() throws IOException {
+        URL url = url("/config.properties");
+
+        assertEquals("value1", load(new RemoteResourceCache(cacheDir), url).getProperty("key"));
+        // A new cache instance, as after a restart
+        body = "key=value2\n";
+        assertEquals("value1", load(new RemoteResourceCache(cacheDir), url).getProperty("key"));
+
+        assertEquals(List.of("200", "304"), statuses);
+        assertEquals(List.of("null", ETAG), conditions);
+    }
+
+    @Test
+    void testLocalCopyUsedWhenServerUnreachable() throws IOException {
+        URL url = url("/config.properties");
+        RemoteResourceCache cache = new RemoteResourceCache(cacheDir);
+
+        assertEquals("value1", load(cache, url).getProperty("key"));
+        server.stop(0);
+        assertEquals("value1", load(cache, url).getProperty("key"));
+    }
+
+    @Test
+    void testServerErrorWithoutLocalCopy() throws IOException {
+        URL url = url("/unavailable.properties");
+        RemoteResourceCache cache = new RemoteResourceCache(cacheDir);
+
+        IOException e = assertThrows(IOException.class, () -> load(cache, url));
+        assertEquals("Unexpected response status 503 for " + url, e.getMessage());
+    }
+
+    @Test
+    void testDownloadUsedWhenLocalCopyNotStored() throws IOException {
+        URL url = url("/config.properties");
+        Path file = Files.writeString(cacheDir.resolve("file"), "");
+        RemoteResourceCache cache = new RemoteResourceCache(file.resolve("cache"));
+
+        assertEquals("value1", load(cache, url).getProperty("key"));
+        assertEquals("value1", load(cache, url).getProperty("key"));
+        assertEquals(List.of("200", "200"), statuses);
+    }
+
+    @Test
+    void testNotFound() throws IOException {
+        URL url = url("/missing.properties");
+        RemoteResourceCache cache = new RemoteResourceCache(cacheDir);
+
+        assertThrows(FileNotFoundException.class, () -> load(cache, url));
+    }
+
+    @Test
+    void testResourceHandleUsesCache() throws IOException {
+        ResourceHandle handle = new ResourceHandle(url("/config.properties"),
+                                                   PropertyResourceFormat.PROPERTIES,
+                                                   StandardCharsets.ISO_8859_1,
+                                                   new RemoteResourceCache(cacheDir));
+
+        assertEquals("value1", handle.getTable(false).get("key"));
+        server.stop(0);
+        handle.reload();
+        assertEquals("value1", handle.getTable(false).get("key"));
+        assertNull(handle.getTable(false).get("other"));
+    }
+
+    @Test
+    void testResourceHandleLoadsWithoutHoldingMonitor() throws Exception {
+        ResourceHandle handle = new ResourceHandle(url("/slow/config.properties"),
+                                                   PropertyResourceFormat.PROPERTIES,
+                                                   StandardCharsets.ISO_8859_1,
+                                                   new RemoteResourceCache(null, Duration.ofSeconds(1), Duration.ofSeconds(10), 4));
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ResourceSnapshot> first = readers.submit(() -> handle.getSnapshot(false));
+            Future<ResourceSnapshot> second = readers.submit(() -> handle.getSnapshot(false));
+
+            while (active.get() == 0) {
+                Thread.sleep(10);
+            }
+
+            // The readers wait for the fetch, not for the monitor of the handle
+            assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+                synchronized (handle) {
+                    assertFalse(handle.isLoaded());
+                }
+            });
+
+            release.countDown();
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            assertEquals("slow", handle.getTable(false).get("key"));
+            // Concurrent readers share a single fetch
+            assertEquals(List.of("200"), statuses);
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRequestTimeout() throws IOException {
+        URL url = url("/slow/config.properties");
+        RemoteResourceCache cache = new RemoteResourceCache(cacheDir, Duration.ofSeconds(1), Duration.ofMillis(200), 4);
+
+        assertThrows(HttpTimeoutException.class, () -> load(cache, url));
+    }
+
+    @Test
+    void testFetchesLimitedPerHost() throws Exception {
+        RemoteResourceCache cache = new RemoteResourceCache(null, Duration.ofSeconds(1), Duration.ofSeconds(10), 2);
+        List<CompletableFuture<byte[]>> fetches = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            fetches.add(cache.fetch(url("/slow/" + i + ".properties")));
+        }
+
+        // Fetches are started without blocking the caller
+        assertTrue(fetches.stream().noneMatch(CompletableFuture::isDone));
+        Thread.sleep(200);
+        release.countDown();
+
+        for (CompletableFuture<byte[]> fetch : fetches) {
+            assertEquals("key=slow\n", new String(fetch.get(10, TimeUnit.SECONDS), StandardCharsets.ISO_8859_1));
+        }
+
+        assertEquals(2, maxActive.get());
+    }
+
+    @Test
+    void testLoadAllFetchesRemoteResources() throws IOException {
+        RemoteResourceCache cache = new RemoteResourceCache(cacheDir);
+        ResourceHandle config = new ResourceHandle(url("/config.properties"), PropertyResourceFormat.PROPERTIES, StandardCharsets.ISO_8859_1, cache);
+        ResourceHandle missing = new ResourceHandle(url("/missing.properties"), PropertyResourceFormat.PROPERTIES, StandardCharsets.ISO_8859_1, cache);
+
+        try (PropertyFactory factory = new PropertyFactory()) {
+            factory.loadAll(List.of(config, missing), 1);
+        }
+
+        assertTrue(config.isLoaded());
+        assertEquals("value1", config.getSnapshot().get("key"));
+        assertFalse(missing.isLoaded());
+    }
+}
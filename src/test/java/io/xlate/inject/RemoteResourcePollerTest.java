@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+class RemoteResourcePollerTest {
+
+    @TempDir
+    Path cacheDir;
+
+    HttpServer server;
+    volatile String body = "key=value1\n";
+    volatile int status = 200;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/config.properties", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.ISO_8859_1);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    ResourceHandle handle() throws IOException {
+        URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/config.properties");
+        return new ResourceHandle(url, PropertyResourceFormat.PROPERTIES, StandardCharsets.ISO_8859_1, new RemoteResourceCache(cacheDir));
+    }
+
+    @Test
+    void testRefreshReplacesSnapshotOnlyWhenChanged() throws Exception {
+        ResourceHandle handle = handle();
+        ResourceSnapshot first = handle.getSnapshot(false);
+
+        assertFalse(handle.refresh().get(5, TimeUnit.SECONDS));
+        assertSame(first, handle.getSnapshot());
+
+        body = "key=value2\n";
+        assertTrue(handle.refresh().get(5, TimeUnit.SECONDS));
+        assertNotSame(first, handle.getSnapshot());
+        assertEquals("value2", handle.getSnapshot().get("key"));
+    }
+
+    @Test
+    void testPollerPublishesChanges() throws Exception {
+        ResourceHandle handle = handle();
+        handle.getSnapshot(false);
+
+        try (RemoteResourcePoller poller = new RemoteResourcePoller(20, 10)) {
+            poller.poll(handle);
+            body = "key=value2\n";
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!"value2".equals(handle.getSnapshot().get("key")) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        assertEquals("value2", handle.getSnapshot().get("key"));
+    }
+
+    @Test
+    void testFailedRefreshKeepsSnapshot() throws Exception {
+        ResourceHandle handle = handle();
+        ResourceSnapshot first = handle.getSnapshot(false);
+        status = 500;
+
+        // Reported as a failure, rather than served from the local copy, so the poller backs off
+        IOException e = assertThrows(IOException.class, () -> RemoteResourceCache.await(handle.refresh()));
+        assertEquals("Unexpected response status 500 for " + handle.getResourceUrl(), e.getMessage());
+        assertSame(first, handle.getSnapshot());
+    }
+
+    @Test
+    void testDelayJitterAndBackoff() {
+        try (RemoteResourcePoller poller = new RemoteResourcePoller(1000, 10)) {
+            for (int i = 0; i < 100; i++) {
+                long delay = poller.getDelay(0);
+                assertTrue(delay >= 900 && delay <= 1100, () -> "delay " + delay);
+                long backoff = poller.getDelay(3);
+                assertTrue(backoff >= 7200 && backoff <= 8800, () -> "backoff " + backoff);
+                long capped = poller.getDelay(40);
+                assertTrue(capped >= 28800 && capped <= 35200, () -> "capped " + capped);
+            }
+        }
+
+        try (RemoteResourcePoller poller = new RemoteResourcePoller(1000, 0)) {
+            assertEquals(1000, poller.getDelay(0));
+            assertEquals(2000, poller.getDelay(1));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (C) 2026 xlate.io LLC, http://www.xlate.io
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Affero General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package io.xlate.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResourceWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    PropertyFactory factory;
+
+    @BeforeEach
+    void setup() {
+        factory = new PropertyFactory(new ResourceWatcher(20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    void write(Path file, String content, long modified) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified));
+    }
+
+    Properties await(ResourceHandle resource, Predicate<Properties> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        Properties properties = resource.getProperties(false);
+
+        while (!condition.test(properties) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            properties = resource.getProperties(false);
+        }
+
+        return properties;
+    }
+
+    @Test
+    void testModifiedFileIsReloaded() throws Exception {
+        Path file = directory.resolve("reload.properties");
+        write(file, "key1=value1\n", 1_000_000L);
+        URL resourceUrl = file.toUri().toURL();
+
+        ResourceHandle resource = factory.getResourceHandle(resourceUrl, PropertyResourceFormat.PROPERTIES);
+        Properties initial = resource.getProperties(false);
+        assertEquals("value1", initial.getProperty("key1"));
+
+        write(file, "key1=value2\n", 2_000_000L);
+        Properties reloaded = await(resource, p -> "value2".equals(p.getProperty("key1")));
+
+        assertEquals("value2", reloaded.getProperty("key1"));
+        assertNotSame(initial, reloaded);
+        assertSame(resource, factory.getResourceHandle(resourceUrl, PropertyResourceFormat.PROPERTIES));
+    }
+
+    @Test
+    void testInvalidFileKeepsPreviousProperties() throws Exception {
+        Path file = directory.resolve("invalid.properties");
+        write(file, "key1=value1\n", 1_000_000L);
+        ResourceHandle resource = factory.getResourceHandle(file.toUri().toURL(), PropertyResourceFormat.PROPERTIES);
+        Properties initial = resource.getProperties(false);
+
+        write(file, "key1=\\uZZZZ\n", 2_000_000L);
+        Thread.sleep(200);
+        assertSame(initial, resource.getProperties(false));
+
+        write(file, "key1=value3\n", 3_000_000L);
+        Properties reloaded = await(resource, p -> "value3".equals(p.getProperty("key1")));
+        assertEquals("value3", reloaded.getProperty("key1"));
+    }
+
+    @Test
+    void testOnlyFileUrlsWatchable() throws IOException {
+        assertTrue(ResourceWatcher.isWatchable(directory.toUri().toURL()));
+        assertEquals(false, ResourceWatcher.isWatchable(new URL("http://localhost/test.properties")));
+        assertEquals(directory.resolve("x.properties").toAbsolutePath(),
+                     ResourceWatcher.toPath(directory.resolve("x.properties").toUri().toURL()));
+    }
+}